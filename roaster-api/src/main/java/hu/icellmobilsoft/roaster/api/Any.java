@@ -19,28 +19,40 @@
  */
 package hu.icellmobilsoft.roaster.api;
 
+import java.nio.ByteBuffer;
+import java.text.Normalizer;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Locale;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
-import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.text.RandomStringGenerator;
 
-import hu.icellmobilsoft.coffee.tool.utils.date.DateXmlUtil;
-import hu.icellmobilsoft.coffee.tool.utils.string.RandomUtil;
-import hu.icellmobilsoft.roaster.api.reflect.Getter;
+import hu.icellmobilsoft.roaster.api.dictionary.Dictionaries;
+import hu.icellmobilsoft.roaster.api.dictionary.WordDictionary;
+import hu.icellmobilsoft.roaster.api.id.IdGenerator;
+import hu.icellmobilsoft.roaster.api.random.Distribution;
+import hu.icellmobilsoft.roaster.api.random.Distributions;
+import hu.icellmobilsoft.roaster.api.random.RandomSource;
+import hu.icellmobilsoft.roaster.api.random.RandomSources;
+import hu.icellmobilsoft.roaster.api.reflect.ConstantPool;
+import hu.icellmobilsoft.roaster.api.reflect.Instantiator;
 
 /**
  * Collector class to hold all generic method to generate entity field values and test data.
@@ -57,6 +69,48 @@ public abstract class Any {
 
     private static final String ERROR_MSG_MAX_SIZE_AT_LEAST_ONE = "Maximum size of the array should be least one.";
 
+    private static final String ERROR_MSG_ORIGIN_BEFORE_BOUND = "origin should be before bound.";
+
+    private static final String ERROR_MSG_DISTRIBUTION_NULL = "distribution should not be null.";
+
+    /**
+     * Upper bound of the generated time points (the same as of the former epoch second based generation).
+     */
+    private static final Instant MAX_TIME = Instant.ofEpochSecond(Integer.MAX_VALUE);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final int NANOS_PER_MILLI = 1_000_000;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    /**
+     * Widest range (in seconds) whose nanoseconds still fit in a long.
+     */
+    private static final long MAX_NANO_RANGE_SECONDS = Long.MAX_VALUE / NANOS_PER_SECOND - 1;
+
+    /**
+     * {@code DatatypeFactory} is not guaranteed to be thread safe, so every thread creates its own once.
+     */
+    private static final ThreadLocal<DatatypeFactory> DATATYPE_FACTORY = ThreadLocal.withInitial(Any::newDatatypeFactory);
+
+    /**
+     * Block size of the bulk (and parallel) array fills, every block is filled from its own derived {@link RandomSource}.
+     */
+    private static final int BULK_BLOCK_SIZE = 1 << 16;
+
+    /**
+     * Keeps every byte of a random long in the range of {@link #aByte()}.
+     */
+    private static final long BYTE_RANGE_MASK = 0x7F7F7F7F7F7F7F7FL;
+
+    /**
+     * Bound of the number after the name in the e-mail addresses, keeps the collisions rare in big data sets.
+     */
+    private static final int EMAIL_NUMBER_BOUND = 10_000;
+
     /**
      * Enum for the random string character sets
      */
@@ -86,13 +140,22 @@ public abstract class Any {
     private Any() {
     }
 
+    private static DatatypeFactory newDatatypeFactory() {
+        try {
+            return DatatypeFactory.newInstance();
+        } catch (DatatypeConfigurationException e) {
+            throw new TestException("Cannot create DatatypeFactory instance", e);
+        }
+    }
+
     /**
-     * generate a random X__ID using the default EntityIdGenerator.
+     * Generate a unique X__ID with the default {@link IdGenerator}: {@value IdGenerator#ID_LENGTH} characters, unique across the threads and
+     * (with distinct node ids) across the JVMs.
      *
-     * @return a random X__ID
+     * @return a unique X__ID
      */
     public static String xId() {
-        return RandomUtil.generateId();
+        return IdGenerator.getDefault().nextXId();
     }
 
     /**
@@ -111,25 +174,85 @@ public abstract class Any {
      * @return the random string
      */
     public static String emptyString() {
-        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        RandomSource rand = RandomSources.current();
         return (rand.nextBoolean()) ? whitespace(0, DEFAULT_MAX_STR_LENGTH) : null;
     }
 
     /**
-     * Generate random email address
+     * Generate random email address from the name and domain dictionaries, like {@code laszlo.nagy4711@freemail.hu}
      *
      * @return the random email address
      */
     public static String emailAddress() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(string(30, false, RandomStringType.ONLY_ALPHANUMERIC));
-        sb.append("@");
-        sb.append(string(10, false, RandomStringType.ONLY_ALPHANUMERIC));
-        sb.append(".");
-        sb.append(string(3, false, RandomStringType.ONLY_ALPHANUMERIC));
+        RandomSource rand = RandomSources.current();
+        StringBuilder sb = new StringBuilder(48);
+        sb.append(EmailDictionaries.FIRST_NAMES.sample());
+        sb.append('.');
+        sb.append(EmailDictionaries.LAST_NAMES.sample());
+        sb.append(rand.nextInt(EMAIL_NUMBER_BOUND));
+        sb.append('@');
+        sb.append(Dictionaries.domains().sample());
+        return sb.toString();
+    }
+
+    /**
+     * @return random first name of the {@link Dictionaries#firstNames()} dictionary
+     */
+    public static String firstName() {
+        return Dictionaries.firstNames().sample();
+    }
+
+    /**
+     * @return random last name of the {@link Dictionaries#lastNames()} dictionary
+     */
+    public static String lastName() {
+        return Dictionaries.lastNames().sample();
+    }
+
+    /**
+     * @return random full name (Hungarian order, last name first), like {@code Nagy László}
+     */
+    public static String fullName() {
+        return lastName() + StringUtils.SPACE + firstName();
+    }
+
+    /**
+     * @return random city of the {@link Dictionaries#cities()} dictionary
+     */
+    public static String city() {
+        return Dictionaries.cities().sample();
+    }
+
+    /**
+     * @return random domain of the {@link Dictionaries#domains()} dictionary
+     */
+    public static String domain() {
+        return Dictionaries.domains().sample();
+    }
+
+    /**
+     * Lower case ascii variant of the word for the local part of e-mail addresses ({@code Dvořák} to {@code dvorak})
+     */
+    private static String emailToken(String word) {
+        String stripped = Normalizer.normalize(word, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(stripped.length());
+        for (int i = 0; i < stripped.length(); i++) {
+            char c = stripped.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                sb.append(c);
+            }
+        }
         return sb.toString();
     }
 
+    /**
+     * The e-mail variants of the name dictionaries, mapped once
+     */
+    private static final class EmailDictionaries {
+        private static final WordDictionary FIRST_NAMES = Dictionaries.firstNames().map(Any::emailToken);
+        private static final WordDictionary LAST_NAMES = Dictionaries.lastNames().map(Any::emailToken);
+    }
+
     /**
      * Generate an random string that contains only whitespaces. The length will be between {@code min} and {@code max}
      *
@@ -140,15 +263,14 @@ public abstract class Any {
      * @return an random only whitespace string
      */
     private static String whitespace(int min, int max) {
-        RandomStringGenerator randomStringGenerator = new RandomStringGenerator.Builder().filteredBy(Character::isWhitespace).build();
-        return randomStringGenerator.generate(min, max);
+        return RandomStrings.whitespace(RandomSources.current().nextInt(min, max + 1));
     }
 
     /**
      * @return random true or false
      */
     public static boolean bool() {
-        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        RandomSource rand = RandomSources.current();
         return rand.nextBoolean();
     }
 
@@ -156,8 +278,8 @@ public abstract class Any {
      * @return a fully random UTF-8 encoded string with length between {@value #DEFAULT_MIN_STR_LENGTH} and {@value #DEFAULT_MAX_STR_LENGTH}
      */
     public static String string() {
-        RandomStringGenerator randomStringGenerator = new RandomStringGenerator.Builder().build();
-        return randomStringGenerator.generate(DEFAULT_MIN_STR_LENGTH, DEFAULT_MAX_STR_LENGTH);
+        int length = RandomSources.current().nextInt(DEFAULT_MIN_STR_LENGTH, DEFAULT_MAX_STR_LENGTH + 1);
+        return RandomStrings.generate(length, RandomStringType.RANDOM);
     }
 
     /**
@@ -209,41 +331,16 @@ public abstract class Any {
      * @return a printable random string
      */
     public static String string(int count, boolean nonBlank, RandomStringType randomStringType) {
-        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        RandomSource rand = RandomSources.current();
         int randCount = rand.nextInt(count - 1) + 1;
-        String result;
-        switch (randomStringType) {
-        case ASCII:
-            result = RandomStringUtils.randomAscii(randCount);
-            break;
-        case ONLY_ALPHABETIC:
-            result = RandomStringUtils.randomAlphabetic(randCount);
-            break;
-        case ONLY_ALPHANUMERIC:
-            result = RandomStringUtils.randomAlphanumeric(randCount);
-            break;
-        case ONLY_NUMERIC:
-            result = RandomStringUtils.randomNumeric(randCount);
-            break;
-        default:
-            result = RandomStringUtils.random(randCount);
-        }
-        if (nonBlank) {
-            if (Character.isWhitespace(result.charAt(0))) {
-                result = RandomStringUtils.randomAscii(1) + result.substring(1);
-            }
-            if (Character.isWhitespace(result.charAt(result.length() - 1))) {
-                result = result.substring(0, result.length() - 1) + RandomStringUtils.randomAscii(1);
-            }
-        }
-        return result;
+        return RandomStrings.generate(randCount, randomStringType, nonBlank);
     }
 
     /**
      * @return an random date after 1970-01-01T00:00:00Z
      */
     public static Date time() {
-        return time(0, Instant.ofEpochSecond(Integer.MAX_VALUE).atOffset(ZoneOffset.UTC).toEpochSecond(), 0, LocalDateTime.MAX.getNano());
+        return new Date(RandomSources.current().nextLong(MAX_TIME.toEpochMilli()));
     }
 
     /**
@@ -253,8 +350,7 @@ public abstract class Any {
      */
     public static Date timeBefore(Date time) {
         Condition.notNull(time, "time should not be null.");
-        Instant limit = time.toInstant();
-        return time(0, limit.getEpochSecond(), 0, limit.getNano());
+        return time(0, time.getTime());
     }
 
     /**
@@ -264,9 +360,7 @@ public abstract class Any {
      */
     public static Date timeAfter(Date time) {
         Condition.notNull(time, "time should not be null.");
-        Instant limit = time.toInstant();
-        return time(limit.getEpochSecond(), Instant.ofEpochSecond(Integer.MAX_VALUE).atOffset(ZoneOffset.UTC).toEpochSecond(), limit.getNano(),
-                LocalDateTime.MAX.getNano());
+        return time(time.getTime(), MAX_TIME.toEpochMilli());
     }
 
     /**
@@ -279,34 +373,184 @@ public abstract class Any {
      */
     public static Date time(Date origin, Date bound) {
         Condition.notNull(origin, "origin should not be null.");
-        Condition.notNull(bound, "origin should not be null.");
-        Instant lhs = origin.toInstant();
-        Instant rhs = bound.toInstant();
-        return time(lhs.getEpochSecond(), rhs.getEpochSecond(), lhs.getNano(), rhs.getNano());
+        Condition.notNull(bound, "bound should not be null.");
+        return time(origin.getTime(), bound.getTime());
     }
 
     /**
-     * @param originEpoch
-     *            the origin epoch seconds
-     * @param boundEpoch
-     *            the bound epoch seconds
-     * @param originNano
-     *            the origin nano
-     * @param boundNano
-     *            the bound nano
+     * @param originMillis
+     *            the origin epoch millis (inclusive)
+     * @param boundMillis
+     *            the bound epoch millis (exclusive)
      * @return a random time in the given boundaries
      */
-    private static Date time(long originEpoch, long boundEpoch, int originNano, int boundNano) {
-        ZoneOffset offset = OffsetDateTime.now().getOffset();
-        LocalDateTime time = LocalDateTime.ofEpochSecond(Any.aLong(originEpoch, boundEpoch), Any.anInt(originNano, boundNano), offset);
-        return Date.from(time.toInstant(offset));
+    private static Date time(long originMillis, long boundMillis) {
+        Condition.expected(originMillis < boundMillis, ERROR_MSG_ORIGIN_BEFORE_BOUND);
+        return new Date(RandomSources.current().nextLong(originMillis, boundMillis));
+    }
+
+    /**
+     * @return a random instant between 1970-01-01T00:00:00Z and 2038-01-19T03:14:07Z (the same range as {@link #time()}), with nano precision
+     */
+    public static Instant instant() {
+        return instant(Instant.EPOCH, MAX_TIME);
+    }
+
+    /**
+     * @param bound
+     *            the bound instant
+     * @return a random instant between 1970-01-01T00:00:00Z (inclusive) and {@code bound} (exclusive)
+     */
+    public static Instant instantBefore(Instant bound) {
+        return instant(Instant.EPOCH, bound);
+    }
+
+    /**
+     * @param origin
+     *            the origin instant
+     * @return a random instant between {@code origin} (inclusive) and the upper bound of {@link #instant()} (exclusive)
+     */
+    public static Instant instantAfter(Instant origin) {
+        return instant(origin, MAX_TIME);
+    }
+
+    /**
+     * @param origin
+     *            the origin instant
+     * @param bound
+     *            the bound instant
+     * @return a random instant between {@code origin} (inclusive) and {@code bound} (exclusive), uniformly distributed on the nanoseconds
+     *         of the range
+     */
+    public static Instant instant(Instant origin, Instant bound) {
+        Condition.notNull(origin, "origin should not be null.");
+        Condition.notNull(bound, "bound should not be null.");
+        Condition.expected(origin.isBefore(bound), ERROR_MSG_ORIGIN_BEFORE_BOUND);
+        RandomSource rand = RandomSources.current();
+        long seconds = bound.getEpochSecond() - origin.getEpochSecond();
+        if (seconds < MAX_NANO_RANGE_SECONDS) {
+            return origin.plusNanos(rand.nextLong(seconds * NANOS_PER_SECOND + bound.getNano() - origin.getNano()));
+        }
+        // the range is too wide for a long of nanos: uniform seconds, then uniform nanos
+        Instant result = origin.plusSeconds(rand.nextLong(seconds)).plusNanos(rand.nextLong(NANOS_PER_SECOND));
+        return result.isBefore(bound) ? result : bound.minusNanos(1);
+    }
+
+    /**
+     * @return a random date-time in the range of {@link #instant()}, with the offset of the default time zone at that instant
+     */
+    public static OffsetDateTime offsetDateTime() {
+        return OffsetDateTime.ofInstant(instant(), ZoneId.systemDefault());
+    }
+
+    /**
+     * @param origin
+     *            the origin date-time
+     * @param bound
+     *            the bound date-time
+     * @return a random date-time between {@code origin} (inclusive) and {@code bound} (exclusive), with the offset of {@code origin}
+     */
+    public static OffsetDateTime offsetDateTime(OffsetDateTime origin, OffsetDateTime bound) {
+        Condition.notNull(origin, "origin should not be null.");
+        Condition.notNull(bound, "bound should not be null.");
+        return instant(origin.toInstant(), bound.toInstant()).atOffset(origin.getOffset());
+    }
+
+    /**
+     * @return a random date between 1970-01-01 and 2038-01-19
+     */
+    public static LocalDate localDate() {
+        return LocalDate.ofEpochDay(RandomSources.current().nextLong(MAX_TIME.getEpochSecond() / SECONDS_PER_DAY));
+    }
+
+    /**
+     * @param origin
+     *            the origin date
+     * @param bound
+     *            the bound date
+     * @return a random date between {@code origin} (inclusive) and {@code bound} (exclusive)
+     */
+    public static LocalDate localDate(LocalDate origin, LocalDate bound) {
+        Condition.notNull(origin, "origin should not be null.");
+        Condition.notNull(bound, "bound should not be null.");
+        Condition.expected(origin.isBefore(bound), ERROR_MSG_ORIGIN_BEFORE_BOUND);
+        return LocalDate.ofEpochDay(RandomSources.current().nextLong(origin.toEpochDay(), bound.toEpochDay()));
+    }
+
+    /**
+     * Generate {@code size} random time points between {@code origin} and {@code bound} in ascending order (equal values are possible), for
+     * example the event times of a time series.
+     *
+     * @param origin
+     *            the origin instant (inclusive)
+     * @param bound
+     *            the bound instant (exclusive)
+     * @param size
+     *            the number of the time points
+     * @return the sorted epoch millis
+     */
+    public static long[] sortedEpochMillis(Instant origin, Instant bound, int size) {
+        Condition.notNull(origin, "origin should not be null.");
+        Condition.notNull(bound, "bound should not be null.");
+        Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
+        long originMillis = origin.toEpochMilli();
+        long boundMillis = bound.toEpochMilli();
+        Condition.expected(originMillis < boundMillis, ERROR_MSG_ORIGIN_BEFORE_BOUND);
+        long[] result = new long[size];
+        fillBlocks(size, false, (from, to, rand) -> {
+            for (int i = from; i < to; ++i) {
+                result[i] = rand.nextLong(originMillis, boundMillis);
+            }
+        });
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Generate {@code size} strictly increasing time points, starting at {@code origin}, every step is a random duration between 1 millisecond
+     * and {@code maxStep} (inclusive).
+     *
+     * @param origin
+     *            the first time point
+     * @param maxStep
+     *            the maximum distance of two consecutive time points, at least 1 millisecond
+     * @param size
+     *            the number of the time points
+     * @return the increasing epoch millis
+     */
+    public static long[] monotonicEpochMillis(Instant origin, Duration maxStep, int size) {
+        Condition.notNull(origin, "origin should not be null.");
+        Condition.notNull(maxStep, "maxStep should not be null.");
+        Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
+        long maxStepMillis = maxStep.toMillis();
+        long originMillis = origin.toEpochMilli();
+        Condition.expected(maxStepMillis > 0, "maxStep should be at least 1 millisecond.");
+        Condition.expected((Long.MAX_VALUE - originMillis) / size >= maxStepMillis, "The time points should not overflow the epoch millis.");
+        RandomSource rand = RandomSources.current();
+        long[] result = new long[size];
+        long current = originMillis;
+        result[0] = current;
+        for (int i = 1; i < size; ++i) {
+            current += 1 + rand.nextLong(maxStepMillis);
+            result[i] = current;
+        }
+        return result;
     }
 
     /**
      * @return random {@code XMLGregorianCalendar}
      */
     public static XMLGregorianCalendar timestamp() {
-        return DateXmlUtil.toXMLGregorianCalendar(Any.time());
+        return xmlCalendar(time().getTime());
+    }
+
+    /**
+     * @return random {@code XMLGregorianCalendar} at the start of a day (the time part is cleared like in
+     *         {@code DateUtil.clearTimePart(Date)}), in the default time zone
+     */
+    public static XMLGregorianCalendar dateTimestamp() {
+        LocalDate date = LocalDate.ofEpochDay(RandomSources.current().nextLong(MAX_TIME.getEpochSecond() / SECONDS_PER_DAY));
+        return xmlCalendar(date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
     }
 
     /**
@@ -315,7 +559,7 @@ public abstract class Any {
      * @return a timestamp before bound
      */
     public static XMLGregorianCalendar timestampBefore(Date bound) {
-        return DateXmlUtil.toXMLGregorianCalendar(Any.timeBefore(bound));
+        return xmlCalendar(Any.timeBefore(bound).getTime());
     }
 
     /**
@@ -324,7 +568,7 @@ public abstract class Any {
      * @return an timestamp after origin
      */
     public static XMLGregorianCalendar timestampAfter(Date origin) {
-        return DateXmlUtil.toXMLGregorianCalendar(Any.timeAfter(origin));
+        return xmlCalendar(Any.timeAfter(origin).getTime());
     }
 
     /**
@@ -335,7 +579,24 @@ public abstract class Any {
      * @return a timestamp between origin and bound
      */
     public static XMLGregorianCalendar timestamp(Date origin, Date bound) {
-        return DateXmlUtil.toXMLGregorianCalendar(Any.time(origin, bound));
+        return xmlCalendar(Any.time(origin, bound).getTime());
+    }
+
+    /**
+     * Create the {@code XMLGregorianCalendar} directly from the fields of the time point in the default time zone, the result is the same as
+     * of {@code DateXmlUtil.toXMLGregorianCalendar(Date)} without the {@code Calendar} round trips.
+     *
+     * @param epochMillis
+     *            the time point
+     * @return the calendar with millisecond precision and the offset of the default time zone
+     */
+    private static XMLGregorianCalendar xmlCalendar(long epochMillis) {
+        Instant instant = Instant.ofEpochMilli(epochMillis);
+        ZoneOffset offset = ZoneId.systemDefault().getRules().getOffset(instant);
+        LocalDateTime time = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset);
+        return DATATYPE_FACTORY.get()
+                .newXMLGregorianCalendar(time.getYear(), time.getMonthValue(), time.getDayOfMonth(), time.getHour(), time.getMinute(),
+                        time.getSecond(), time.getNano() / NANOS_PER_MILLI, offset.getTotalSeconds() / SECONDS_PER_MINUTE);
     }
 
     /**
@@ -360,16 +621,29 @@ public abstract class Any {
      * @return one random item from the {@code itemList}
      */
     public static <T> T of(List<T> itemList) {
+        return of(itemList, Distributions.uniform());
+    }
+
+    /**
+     * @param itemList
+     *            the list of the possible items
+     * @param distribution
+     *            the distribution of the selected index, e.g. {@link Distributions#zipf(double)}
+     * @param <T>
+     *            the type of possible item
+     * @return one random item from the {@code itemList}, selected by the {@code distribution}
+     */
+    public static <T> T of(List<T> itemList, Distribution distribution) {
         Condition.notEmpty(itemList, "should provide at least one possible item.");
-        ThreadLocalRandom rand = ThreadLocalRandom.current();
-        return itemList.get(rand.nextInt(itemList.size()));
+        Condition.notNull(distribution, ERROR_MSG_DISTRIBUTION_NULL);
+        return itemList.get(distribution.sample(itemList.size()));
     }
 
     /**
      * @return an random integer
      */
     public static int anInt() {
-        return ThreadLocalRandom.current().nextInt();
+        return RandomSources.current().nextInt();
     }
 
     /**
@@ -380,14 +654,14 @@ public abstract class Any {
      * @return an random integer between {@code origin} (inclusive) and {@code bound} (exclusive)
      */
     public static int anInt(int origin, int bound) {
-        return ThreadLocalRandom.current().nextInt(origin, bound);
+        return RandomSources.current().nextInt(origin, bound);
     }
 
     /**
      * @return a random positive integer
      */
     public static int aPositiveInt() {
-        return nextNotZero(() -> ThreadLocalRandom.current().nextInt());
+        return nextNotZero(() -> RandomSources.current().nextInt());
     }
 
     /**
@@ -397,7 +671,7 @@ public abstract class Any {
      */
     public static int aPositiveInt(int bound) {
         Condition.expected(bound > 0, "Origin must me be greater than zero!");
-        return nextNotZero(() -> ThreadLocalRandom.current().nextInt(bound));
+        return nextNotZero(() -> RandomSources.current().nextInt(bound));
     }
 
     /**
@@ -410,7 +684,7 @@ public abstract class Any {
     public static int aPositiveInt(int origin, int bound) {
         Condition.expected(origin > 0, "Origin must me be greater than zero!");
         Condition.expected(bound > origin, "Bound must me be greater than origin!");
-        return nextNotZero(() -> ThreadLocalRandom.current().nextInt(origin, bound));
+        return nextNotZero(() -> RandomSources.current().nextInt(origin, bound));
     }
 
     private static int nextNotZero(IntSupplier nextSupplier) {
@@ -425,14 +699,14 @@ public abstract class Any {
      * @return true ot false randomly
      */
     public static boolean aBoolean() {
-        return ThreadLocalRandom.current().nextBoolean();
+        return RandomSources.current().nextBoolean();
     }
 
     /**
      * @return a random byte
      */
     public static byte aByte() {
-        return (byte) ThreadLocalRandom.current().nextInt(Byte.MAX_VALUE + 1);
+        return (byte) RandomSources.current().nextInt(Byte.MAX_VALUE + 1);
     }
 
     /**
@@ -443,14 +717,14 @@ public abstract class Any {
      * @return an random byte between {@code origin} (inclusive) and {@code bound} (exclusive)
      */
     public static byte aByte(byte origin, byte bound) {
-        return (byte) ThreadLocalRandom.current().nextInt(origin, bound);
+        return (byte) RandomSources.current().nextInt(origin, bound);
     }
 
     /**
      * @return a random sort
      */
     public static short aShort() {
-        return (short) ThreadLocalRandom.current().nextInt(Short.MAX_VALUE + 1);
+        return (short) RandomSources.current().nextInt(Short.MAX_VALUE + 1);
     }
 
     /**
@@ -461,14 +735,14 @@ public abstract class Any {
      * @return an random short between {@code origin} (inclusive) and {@code bound} (exclusive)
      */
     public static short aShort(short origin, short bound) {
-        return (short) ThreadLocalRandom.current().nextInt(origin, bound);
+        return (short) RandomSources.current().nextInt(origin, bound);
     }
 
     /**
      * @return a random long
      */
     public static long aLong() {
-        return ThreadLocalRandom.current().nextLong();
+        return RandomSources.current().nextLong();
     }
 
     /**
@@ -479,21 +753,21 @@ public abstract class Any {
      * @return an random long between {@code origin} (inclusive) and {@code bound} (exclusive)
      */
     public static long aLong(long origin, long bound) {
-        return ThreadLocalRandom.current().nextLong(origin, bound);
+        return RandomSources.current().nextLong(origin, bound);
     }
 
     /**
      * @return a random float
      */
     public static float aFloat() {
-        return ThreadLocalRandom.current().nextFloat();
+        return RandomSources.current().nextFloat();
     }
 
     /**
      * @return a random double
      */
     public static double aDouble() {
-        return ThreadLocalRandom.current().nextDouble();
+        return RandomSources.current().nextDouble();
     }
 
     /**
@@ -504,7 +778,7 @@ public abstract class Any {
      * @return an random double between {@code origin} (inclusive) and {@code bound} (exclusive)
      */
     public static double aDouble(double origin, double bound) {
-        return ThreadLocalRandom.current().nextDouble(origin, bound);
+        return RandomSources.current().nextDouble(origin, bound);
     }
 
     /**
@@ -527,9 +801,22 @@ public abstract class Any {
      * @return one random chosen enum object from the list.
      */
     public static <T extends Enum<T>> T object(List<T> items) {
+        return object(items, Distributions.uniform());
+    }
+
+    /**
+     * @param items
+     *            the enumeration value list
+     * @param distribution
+     *            the distribution of the selected index, e.g. {@link Distributions#zipf(double)}
+     * @param <T>
+     *            the type of the enumeration
+     * @return one random chosen enum object from the list, selected by the {@code distribution}
+     */
+    public static <T extends Enum<T>> T object(List<T> items, Distribution distribution) {
         Condition.notEmpty(items, "should provide at least one possible item.");
-        ThreadLocalRandom rand = ThreadLocalRandom.current();
-        return items.get(rand.nextInt(items.size()));
+        Condition.notNull(distribution, ERROR_MSG_DISTRIBUTION_NULL);
+        return items.get(distribution.sample(items.size()));
     }
 
     /**
@@ -540,11 +827,24 @@ public abstract class Any {
      * @return one random chosen enum object from all of the possible items.
      */
     public static <T extends Enum<T>> T of(Class<T> enumClass) {
+        return of(enumClass, Distributions.uniform());
+    }
+
+    /**
+     * @param enumClass
+     *            the class of the enumeration
+     * @param distribution
+     *            the distribution of the selected ordinal, e.g. {@link Distributions#zipf(double)}
+     * @param <T>
+     *            the type of the enumeration
+     * @return one random chosen enum object from all of the possible items, selected by the {@code distribution}
+     */
+    public static <T extends Enum<T>> T of(Class<T> enumClass, Distribution distribution) {
         Condition.notNull(enumClass, ERROR_MSG_ENUMERATION_TYPE_NULL);
+        Condition.notNull(distribution, ERROR_MSG_DISTRIBUTION_NULL);
         T[] items = enumClass.getEnumConstants();
         Condition.notEmpty(items, ERROR_MSG_ENUMERATION_TYPE_EMPTY);
-        ThreadLocalRandom rand = ThreadLocalRandom.current();
-        return items[rand.nextInt(items.length)];
+        return items[distribution.sample(items.length)];
     }
 
     /**
@@ -558,12 +858,27 @@ public abstract class Any {
      * @return one random chosen enum object from all of the possible items.
      */
     public static <T> T enumItem(Class<T> enumClass) {
+        return enumItem(enumClass, Distributions.uniform());
+    }
+
+    /**
+     * {@link #enumItem(Class)} with a given distribution of the selected ordinal.
+     *
+     * @param enumClass
+     *            the class of the enumeration
+     * @param distribution
+     *            the distribution of the selected ordinal, e.g. {@link Distributions#zipf(double)}
+     * @param <T>
+     *            the type of the enumeration
+     * @return one random chosen enum object from all of the possible items, selected by the {@code distribution}
+     */
+    public static <T> T enumItem(Class<T> enumClass, Distribution distribution) {
         Condition.notNull(enumClass, ERROR_MSG_ENUMERATION_TYPE_NULL);
         Condition.expected(enumClass.isEnum(), "The input type should be an enumeration.");
+        Condition.notNull(distribution, ERROR_MSG_DISTRIBUTION_NULL);
         T[] items = enumClass.getEnumConstants();
         Condition.notEmpty(items, ERROR_MSG_ENUMERATION_TYPE_EMPTY);
-        ThreadLocalRandom rand = ThreadLocalRandom.current();
-        return items[rand.nextInt(items.length)];
+        return items[distribution.sample(items.length)];
     }
 
     /**
@@ -580,11 +895,32 @@ public abstract class Any {
      *            the type of the field
      */
     public static <I, T> T fieldValue(Class<I> ifaceClass, Class<T> fieldType) {
+        return fieldValue(ifaceClass, fieldType, Distributions.uniform());
+    }
+
+    /**
+     * Returns the value of a random static field with a given type from the given class, the field is selected by the distribution over
+     * the declaration order
+     *
+     * @param ifaceClass
+     *            the interface class
+     * @param fieldType
+     *            the type of the fields to use
+     * @param distribution
+     *            the distribution of the selected field, e.g. {@link Distributions#zipf(double)}
+     * @return the value of a random static field with a given type from the given class
+     * @param <I>
+     *            the type of the interface
+     * @param <T>
+     *            the type of the field
+     */
+    public static <I, T> T fieldValue(Class<I> ifaceClass, Class<T> fieldType, Distribution distribution) {
         Condition.notNull(ifaceClass, "IfaceClass should not be null.");
         Condition.expected(ifaceClass.isInterface(), "the input type must be an interface.");
-        List<T> items = Getter.getFieldsValue(ifaceClass, fieldType);
-        Condition.notEmpty(items, "Field value list should not be empty.");
-        return items.get(ThreadLocalRandom.current().nextInt(items.size()));
+        Condition.notNull(distribution, ERROR_MSG_DISTRIBUTION_NULL);
+        ConstantPool<T> items = ConstantPool.of(ifaceClass, fieldType);
+        Condition.notEmpty(items.values(), "Field value list should not be empty.");
+        return items.sample(distribution);
     }
 
     /**
@@ -624,8 +960,8 @@ public abstract class Any {
     public static <T, I> T butValue(Class<I> ifaceClass, Class<T> fieldType, Supplier<T> randomSupplier) {
         Condition.notNull(ifaceClass, "IfaceClass should not be null.");
         Condition.expected(ifaceClass.isInterface(), "the input type must be an interface.");
-        List<T> items = Getter.getFieldsValue(ifaceClass, fieldType);
-        Condition.notEmpty(items, "Field value list should not be empty.");
+        ConstantPool<T> items = ConstantPool.of(ifaceClass, fieldType);
+        Condition.notEmpty(items.values(), "Field value list should not be empty.");
         T result = randomSupplier.get();
         while (items.contains(result)) {
             result = randomSupplier.get();
@@ -641,7 +977,16 @@ public abstract class Any {
      * @return a random integer that is not equals with any of the static fields of the {@code ifaceClass}
      */
     public static <I> int butInt(Class<I> ifaceClass) {
-        return butValue(ifaceClass, int.class, () -> ThreadLocalRandom.current().nextInt());
+        Condition.notNull(ifaceClass, "IfaceClass should not be null.");
+        Condition.expected(ifaceClass.isInterface(), "the input type must be an interface.");
+        ConstantPool<Integer> items = ConstantPool.of(ifaceClass, int.class);
+        Condition.notEmpty(items.values(), "Field value list should not be empty.");
+        RandomSource rand = RandomSources.current();
+        int result = rand.nextInt();
+        while (items.containsInt(result)) {
+            result = rand.nextInt();
+        }
+        return result;
     }
 
     /**
@@ -678,31 +1023,169 @@ public abstract class Any {
      */
     public static boolean[] booleanArray(int size) {
         Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
+        RandomSource rand = RandomSources.current();
         boolean[] result = new boolean[size];
+        long bits = 0;
         for (int i = 0; i < size; ++i) {
-            result[i] = aBoolean();
+            if ((i & (Long.SIZE - 1)) == 0) {
+                bits = rand.nextLong();
+            }
+            result[i] = (bits & 1L) != 0;
+            bits >>>= 1;
         }
         return result;
     }
 
     /**
-     * Create an array with random content.
+     * Create an array with random content. The elements are in the same range as {@link #aByte()}.
      *
      * @param size
      *            the number of the elements
      * @return a byte array with {@code size}
      */
     public static byte[] byteArray(int size) {
+        return byteArray(size, false);
+    }
+
+    /**
+     * Create an array with random content. The elements are in the same range as {@link #aByte()}.
+     *
+     * @param size
+     *            the number of the elements
+     * @param parallel
+     *            fill the blocks of the array in parallel (worth it only for multi megabyte arrays)
+     * @return a byte array with {@code size}
+     */
+    public static byte[] byteArray(int size, boolean parallel) {
         Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
         byte[] result = new byte[size];
-        for (int i = 0; i < size; ++i) {
-            result[i] = aByte();
-        }
+        fillBytes(ByteBuffer.wrap(result), parallel);
         return result;
     }
 
     /**
-     * Create an array with random content.
+     * Create a heap buffer with random content, the buffer is ready to read. The elements are in the same range as {@link #aByte()}.
+     *
+     * @param size
+     *            the capacity of the buffer
+     * @return a byte buffer with capacity {@code size}
+     */
+    public static ByteBuffer byteBuffer(int size) {
+        Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
+        ByteBuffer result = ByteBuffer.allocate(size);
+        fillBytes(result, false);
+        return result;
+    }
+
+    /**
+     * Create an off-heap (direct) buffer with random content, the buffer is ready to read. The elements are in the same range as
+     * {@link #aByte()}.
+     *
+     * @param size
+     *            the capacity of the buffer
+     * @return a direct byte buffer with capacity {@code size}
+     */
+    public static ByteBuffer directByteBuffer(int size) {
+        return directByteBuffer(size, false);
+    }
+
+    /**
+     * Create an off-heap (direct) buffer with random content, the buffer is ready to read. The elements are in the same range as
+     * {@link #aByte()}.
+     *
+     * @param size
+     *            the capacity of the buffer
+     * @param parallel
+     *            fill the blocks of the buffer in parallel (worth it only for multi megabyte buffers)
+     * @return a direct byte buffer with capacity {@code size}
+     */
+    public static ByteBuffer directByteBuffer(int size, boolean parallel) {
+        Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
+        ByteBuffer result = ByteBuffer.allocateDirect(size);
+        fillBytes(result, parallel);
+        return result;
+    }
+
+    /**
+     * Fill the whole buffer with random bytes in blocks of {@value #BULK_BLOCK_SIZE} bytes.
+     *
+     * @param buffer
+     *            the target buffer
+     * @param parallel
+     *            fill the blocks in parallel
+     */
+    private static void fillBytes(ByteBuffer buffer, boolean parallel) {
+        fillBlocks(buffer.capacity(), parallel, (from, to, rand) -> fillBytes(buffer, from, to, rand));
+    }
+
+    /**
+     * Fill the range {@code [0, size)} in blocks of {@value #BULK_BLOCK_SIZE} elements. The block {@code i} is filled from the source derived
+     * with index {@code i} from a split of the current source, so with a seeded source the content is the same for the sequential and the
+     * parallel fill.
+     *
+     * @param size
+     *            the number of the elements
+     * @param parallel
+     *            fill the blocks in parallel
+     * @param filler
+     *            fills one block
+     */
+    private static void fillBlocks(int size, boolean parallel, BlockFiller filler) {
+        RandomSource base = RandomSources.current().split();
+        int blocks = (size + BULK_BLOCK_SIZE - 1) / BULK_BLOCK_SIZE;
+        if (parallel && blocks > 1) {
+            IntStream.range(0, blocks)
+                    .parallel()
+                    .forEach(block -> filler.fill(block * BULK_BLOCK_SIZE, Math.min(size, (block + 1) * BULK_BLOCK_SIZE), base.derive(block)));
+        } else {
+            for (int block = 0; block < blocks; ++block) {
+                filler.fill(block * BULK_BLOCK_SIZE, Math.min(size, (block + 1) * BULK_BLOCK_SIZE), base.derive(block));
+            }
+        }
+    }
+
+    /**
+     * Fills one block of a bulk generated array.
+     */
+    @FunctionalInterface
+    private interface BlockFiller {
+
+        /**
+         * @param from
+         *            the first index to fill
+         * @param to
+         *            the end index (exclusive)
+         * @param rand
+         *            the source of the block
+         */
+        void fill(int from, int to, RandomSource rand);
+    }
+
+    /**
+     * Fill the buffer between {@code from} (inclusive) and {@code to} (exclusive) with random bytes, eight bytes at once. Only absolute puts
+     * are used, so the blocks of the same buffer can be filled from different threads.
+     *
+     * @param buffer
+     *            the target buffer
+     * @param from
+     *            the first index to fill
+     * @param to
+     *            the end index (exclusive)
+     * @param rand
+     *            the source of the block
+     */
+    private static void fillBytes(ByteBuffer buffer, int from, int to, RandomSource rand) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            buffer.putLong(i, rand.nextLong() & BYTE_RANGE_MASK);
+        }
+        for (; i < to; ++i) {
+            buffer.put(i, (byte) rand.nextInt(Byte.MAX_VALUE + 1));
+        }
+    }
+
+    /**
+     * Create an array with random content. The elements are in the same range as {@link #aShort()}.
      *
      * @param size
      *            the number of the elements
@@ -710,9 +1193,15 @@ public abstract class Any {
      */
     public static short[] shortArray(int size) {
         Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
+        RandomSource rand = RandomSources.current();
         short[] result = new short[size];
+        long bits = 0;
         for (int i = 0; i < size; ++i) {
-            result[i] = aShort();
+            if ((i & (Long.BYTES / Short.BYTES - 1)) == 0) {
+                bits = rand.nextLong();
+            }
+            result[i] = (short) (bits & Short.MAX_VALUE);
+            bits >>>= Short.SIZE;
         }
         return result;
     }
@@ -725,11 +1214,26 @@ public abstract class Any {
      * @return a int array with {@code size}
      */
     public static int[] intArray(int size) {
+        return intArray(size, false);
+    }
+
+    /**
+     * Create an array with random content.
+     *
+     * @param size
+     *            the number of the elements
+     * @param parallel
+     *            generate the elements in parallel (worth it only for very large arrays)
+     * @return a int array with {@code size}
+     */
+    public static int[] intArray(int size, boolean parallel) {
         Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
         int[] result = new int[size];
-        for (int i = 0; i < size; ++i) {
-            result[i] = anInt();
-        }
+        fillBlocks(size, parallel, (from, to, rand) -> {
+            for (int i = from; i < to; ++i) {
+                result[i] = rand.nextInt();
+            }
+        });
         return result;
     }
 
@@ -741,11 +1245,26 @@ public abstract class Any {
      * @return a long array with {@code size}
      */
     public static long[] longArray(int size) {
+        return longArray(size, false);
+    }
+
+    /**
+     * Create an array with random content.
+     *
+     * @param size
+     *            the number of the elements
+     * @param parallel
+     *            generate the elements in parallel (worth it only for very large arrays)
+     * @return a long array with {@code size}
+     */
+    public static long[] longArray(int size, boolean parallel) {
         Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
         long[] result = new long[size];
-        for (int i = 0; i < size; ++i) {
-            result[i] = aLong();
-        }
+        fillBlocks(size, parallel, (from, to, rand) -> {
+            for (int i = from; i < to; ++i) {
+                result[i] = rand.nextLong();
+            }
+        });
         return result;
     }
 
@@ -758,9 +1277,10 @@ public abstract class Any {
      */
     public static float[] floatArray(int size) {
         Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
+        RandomSource rand = RandomSources.current();
         float[] result = new float[size];
         for (int i = 0; i < size; ++i) {
-            result[i] = aFloat();
+            result[i] = rand.nextFloat();
         }
         return result;
     }
@@ -773,11 +1293,26 @@ public abstract class Any {
      * @return a double array with {@code size}
      */
     public static double[] doubleArray(int size) {
+        return doubleArray(size, false);
+    }
+
+    /**
+     * Create an array with random content.
+     *
+     * @param size
+     *            the number of the elements
+     * @param parallel
+     *            generate the elements in parallel (worth it only for very large arrays)
+     * @return a double array with {@code size}
+     */
+    public static double[] doubleArray(int size, boolean parallel) {
         Condition.expected(size > 0, ERROR_MSG_MAX_SIZE_AT_LEAST_ONE);
         double[] result = new double[size];
-        for (int i = 0; i < size; ++i) {
-            result[i] = aDouble();
-        }
+        fillBlocks(size, parallel, (from, to, rand) -> {
+            for (int i = from; i < to; ++i) {
+                result[i] = rand.nextDouble();
+            }
+        });
         return result;
     }
 
@@ -820,25 +1355,16 @@ public abstract class Any {
     }
 
     /**
-     * It will call the {@code newInstance} method through the {@code targetClass} and create a new object. If something goes wrong, it will throw an
-     * {@code UnexpectedException}.
+     * Returns the factory of the {@code targetClass} that creates a new object through the no-arg constructor. The factory is resolved once per
+     * class (see {@link Instantiator}), if the class can not be instantiated, the factory throws a {@code TestException} explaining the reason.
      *
      * @param targetClass
      *            the class of the target type
      * @param <C>
      *            the target type
-     * @return a new element
+     * @return the factory of the new elements
      */
-    // TODO: move seperated class
     public static <C> Supplier<C> createEntity(final Class<C> targetClass) {
-        return () -> {
-            C instance = null;
-            try {
-                instance = targetClass.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                Condition.shouldNeverThrown("Failed to create the target class", e);
-            }
-            return instance;
-        };
+        return Instantiator.of(targetClass);
     }
 }
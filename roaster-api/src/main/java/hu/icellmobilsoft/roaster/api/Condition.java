@@ -20,14 +20,13 @@
 package hu.icellmobilsoft.roaster.api;
 
 import java.text.MessageFormat;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
 
-import hu.icellmobilsoft.roaster.api.reflect.Getter;
+import hu.icellmobilsoft.roaster.api.reflect.ConstantPool;
 
 /**
  * Condition checks for the test framework.
@@ -51,7 +50,7 @@ public class Condition {
      *            the type of the interface class
      */
     public static <T> void contains(int code, final Class<T> ifClass, final String errorMessage) {
-        contains(code, ifClass, () -> errorMessage);
+        expected(constants(ifClass, int.class).containsInt(code), errorMessage);
     }
 
     /**
@@ -67,12 +66,7 @@ public class Condition {
      *            the type of the interface class
      */
     public static <T> void contains(int code, final Class<T> ifClass, final Supplier<String> errorMessageSupplier) {
-        notNull(ifClass, "ifClass should not be null");
-        expected(ifClass.isInterface(), "ifClass should be an interface");
-        List<Integer> valueList = Getter.getFieldsValue(ifClass, int.class);
-        if (!valueList.contains(code)) {
-            throw new PreconditionFailException(errorMessageSupplier.get());
-        }
+        expected(constants(ifClass, int.class).containsInt(code), errorMessageSupplier);
     }
 
     /**
@@ -88,7 +82,7 @@ public class Condition {
      *            the type of the interface class
      */
     public static <T> void contains(final String code, final Class<T> ifClass, final String errorMessage) {
-        contains(code, ifClass, () -> errorMessage);
+        expected(constants(ifClass, String.class).contains(code), errorMessage);
     }
 
     /**
@@ -104,15 +98,13 @@ public class Condition {
      *            the type of the interface class
      */
     public static <T> void contains(final String code, final Class<T> ifClass, final Supplier<String> errorMessageSupplier) {
+        expected(constants(ifClass, String.class).contains(code), errorMessageSupplier);
+    }
+
+    private static <T> ConstantPool<T> constants(Class<?> ifClass, Class<T> fieldType) {
         notNull(ifClass, "ifClass should not be null");
         expected(ifClass.isInterface(), "ifClass should be an interface");
-        List<String> valueList = Getter.getFieldsValue(ifClass, String.class);
-        for (String value : valueList) {
-            if (StringUtils.equals(code, value)) {
-                return;
-            }
-        }
-        throw new PreconditionFailException(errorMessageSupplier.get());
+        return ConstantPool.of(ifClass, fieldType);
     }
 
     /**
@@ -127,7 +119,8 @@ public class Condition {
      * @return the checked object
      */
     public static <T> T notNull(T object, final String errorMessage) {
-        return notNull(object, () -> errorMessage);
+        expected(object != null, errorMessage);
+        return object;
     }
 
     /**
@@ -158,7 +151,10 @@ public class Condition {
      */
     @SafeVarargs
     public static <T> void notNullAll(String errorMessage, @SuppressWarnings("unchecked") T... objects) {
-        notNullAll(() -> errorMessage, objects);
+        expected(objects != null && objects.length > 0, "variadic argument list should not be empty");
+        for (T object : objects) {
+            expected(object != null, errorMessage);
+        }
     }
 
     /**
@@ -172,9 +168,10 @@ public class Condition {
      *            the error message supplier.
      */
     public static <T> void notNullAll(Supplier<String> errorMessageSupplier, @SuppressWarnings("unchecked") T... objects) {
-        List<T> objectList = Arrays.asList(objects);
-        notEmpty(objectList, "variadic argument list should not be empty");
-        objectList.forEach(o -> expected(o != null, errorMessageSupplier));
+        expected(objects != null && objects.length > 0, "variadic argument list should not be empty");
+        for (T object : objects) {
+            expected(object != null, errorMessageSupplier);
+        }
     }
 
     /**
@@ -189,7 +186,8 @@ public class Condition {
      * @return the input list
      */
     public static <T> List<T> notEmpty(List<T> list, String errorMessage) {
-        return notEmpty(list, () -> errorMessage);
+        expected(list != null && !list.isEmpty(), errorMessage);
+        return list;
     }
 
     /**
@@ -220,7 +218,8 @@ public class Condition {
      * @return the input list
      */
     public static <T> T[] notEmpty(T[] list, String errorMessage) {
-        return notEmpty(list, () -> errorMessage);
+        expected(list != null && list.length > 0, errorMessage);
+        return list;
     }
 
     /**
@@ -249,7 +248,8 @@ public class Condition {
      * @return the checked text
      */
     public static String notEmpty(String text, final String errorMessage) {
-        return notEmpty(text, () -> errorMessage);
+        expected(StringUtils.isNotEmpty(text), errorMessage);
+        return text;
     }
 
     /**
@@ -276,7 +276,8 @@ public class Condition {
      * @return the checked text
      */
     public static String notBlank(String text, String errorMessage) {
-        return notBlank(text, () -> errorMessage);
+        expected(StringUtils.isNotBlank(text), errorMessage);
+        return text;
     }
 
     /**
@@ -302,7 +303,45 @@ public class Condition {
      *            the error message.
      */
     public static void expected(boolean condition, String errorMessage) {
-        expected(condition, () -> errorMessage);
+        if (!condition) {
+            throw new PreconditionFailException(errorMessage);
+        }
+    }
+
+    /**
+     * Throws an {@code PreconditionFailException} with the message parameter if the condition is false. The message is formatted only on
+     * failure, without allocating the parameter array of the variadic form.
+     *
+     * @param condition
+     *            the conditon of the precondition check
+     * @param errorMessage
+     *            the {@link MessageFormat} pattern of the error message
+     * @param param
+     *            the parameter of the pattern
+     */
+    public static void expected(boolean condition, String errorMessage, Object param) {
+        if (!condition) {
+            throw new PreconditionFailException(MessageFormat.format(errorMessage, param));
+        }
+    }
+
+    /**
+     * Throws an {@code PreconditionFailException} with the message parameter if the condition is false. The message is formatted only on
+     * failure, without allocating the parameter array of the variadic form.
+     *
+     * @param condition
+     *            the conditon of the precondition check
+     * @param errorMessage
+     *            the {@link MessageFormat} pattern of the error message
+     * @param param1
+     *            the first parameter of the pattern
+     * @param param2
+     *            the second parameter of the pattern
+     */
+    public static void expected(boolean condition, String errorMessage, Object param1, Object param2) {
+        if (!condition) {
+            throw new PreconditionFailException(MessageFormat.format(errorMessage, param1, param2));
+        }
     }
 
     /**
@@ -316,7 +355,9 @@ public class Condition {
      *            variadic param list for the {@link MessageFormat#format(Object)}
      */
     public static void expected(boolean condition, String errorMessage, Object... params) {
-        expected(condition, () -> MessageFormat.format(errorMessage, params));
+        if (!condition) {
+            throw new PreconditionFailException(MessageFormat.format(errorMessage, params));
+        }
     }
 
     /**
@@ -340,7 +381,45 @@ public class Condition {
      *            the error message.
      */
     public static void ensure(boolean condition, String errorMessage) {
-        ensure(condition, () -> errorMessage);
+        if (!condition) {
+            throw new PostconditionFailException(errorMessage);
+        }
+    }
+
+    /**
+     * Throws an {@code PostconditionFailException} with the message parameter if the condition is false. The message is formatted only on
+     * failure, without allocating the parameter array of the variadic form.
+     *
+     * @param condition
+     *            the condition of the postcondition check
+     * @param errorMessage
+     *            the {@link MessageFormat} pattern of the error message
+     * @param param
+     *            the parameter of the pattern
+     */
+    public static void ensure(boolean condition, String errorMessage, Object param) {
+        if (!condition) {
+            throw new PostconditionFailException(MessageFormat.format(errorMessage, param));
+        }
+    }
+
+    /**
+     * Throws an {@code PostconditionFailException} with the message parameter if the condition is false. The message is formatted only on
+     * failure, without allocating the parameter array of the variadic form.
+     *
+     * @param condition
+     *            the condition of the postcondition check
+     * @param errorMessage
+     *            the {@link MessageFormat} pattern of the error message
+     * @param param1
+     *            the first parameter of the pattern
+     * @param param2
+     *            the second parameter of the pattern
+     */
+    public static void ensure(boolean condition, String errorMessage, Object param1, Object param2) {
+        if (!condition) {
+            throw new PostconditionFailException(MessageFormat.format(errorMessage, param1, param2));
+        }
     }
 
     /**
@@ -354,7 +433,9 @@ public class Condition {
      *            variadic param list for the {@link MessageFormat#format(Object)}
      */
     public static void ensure(boolean condition, String errorMessage, Object... params) {
-        ensure(condition, () -> MessageFormat.format(errorMessage, params));
+        if (!condition) {
+            throw new PostconditionFailException(MessageFormat.format(errorMessage, params));
+        }
     }
 
     /**
@@ -0,0 +1,240 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api;
+
+import java.util.stream.IntStream;
+
+import hu.icellmobilsoft.roaster.api.Any.RandomStringType;
+import hu.icellmobilsoft.roaster.api.random.RandomSource;
+import hu.icellmobilsoft.roaster.api.random.RandomSources;
+
+/**
+ * Shared, thread-safe random string generator used by {@link Any} and {@link hu.icellmobilsoft.roaster.api.dto.AnyDto}.
+ * <p>
+ * The character sets of the {@link RandomStringType}s are precomputed tables, the characters are written into a per thread reusable
+ * {@code char[]} buffer, so generating a string allocates only the result string itself.
+ */
+public final class RandomStrings {
+
+    /**
+     * Buffers larger than this are not kept for the thread.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 8192;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+    private static final char[] ASCII = chars(IntStream.rangeClosed(' ', '~'));
+
+    private static final char[] NON_SPACE_ASCII = chars(IntStream.rangeClosed('!', '~'));
+
+    private static final char[] ALPHABETIC = chars(IntStream.concat(IntStream.rangeClosed('A', 'Z'), IntStream.rangeClosed('a', 'z')));
+
+    private static final char[] ALPHANUMERIC = chars(
+            IntStream.concat(IntStream.rangeClosed('0', '9'), IntStream.concat(IntStream.rangeClosed('A', 'Z'), IntStream.rangeClosed('a', 'z'))));
+
+    private static final char[] NUMERIC = chars(IntStream.rangeClosed('0', '9'));
+
+    private static final char[] WHITESPACE = chars(IntStream.rangeClosed(Character.MIN_VALUE, Character.MAX_VALUE).filter(Character::isWhitespace));
+
+    private static final String ERROR_MSG_NEGATIVE_LENGTH = "The length of the string should not be negative.";
+
+    private RandomStrings() {
+    }
+
+    /**
+     * Generate a random string with exactly {@code length} characters.
+     *
+     * @param length
+     *            the length of the string
+     * @param randomStringType
+     *            the character set of the string
+     * @return the random string
+     */
+    public static String generate(int length, RandomStringType randomStringType) {
+        return generate(length, randomStringType, false);
+    }
+
+    /**
+     * Generate a random string with exactly {@code length} characters.
+     *
+     * @param length
+     *            the length of the string
+     * @param randomStringType
+     *            the character set of the string
+     * @param nonBlank
+     *            should not begin and end with a whitespace character, the whitespace edges are replaced by non space ASCII characters
+     * @return the random string
+     */
+    public static String generate(int length, RandomStringType randomStringType, boolean nonBlank) {
+        Condition.notNull(randomStringType, "randomStringType should not be null.");
+        Condition.expected(length >= 0, ERROR_MSG_NEGATIVE_LENGTH);
+        RandomSource rand = RandomSources.current();
+        char[] buffer = buffer(length);
+        if (randomStringType == RandomStringType.RANDOM) {
+            fillCodePoints(buffer, length, rand);
+        } else {
+            fill(buffer, length, table(randomStringType), rand);
+        }
+        if (nonBlank && length > 0) {
+            fixBlankEdges(buffer, length, rand);
+        }
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Generate a random string with exactly {@code length} characters chosen from {@code characters}.
+     *
+     * @param length
+     *            the length of the string
+     * @param characters
+     *            the set of the characters to use for generation, if {@code null} the characters are chosen from the set of all characters
+     * @return the random string
+     */
+    public static String generate(int length, CharSequence characters) {
+        if (characters == null) {
+            return generate(length, RandomStringType.RANDOM);
+        }
+        Condition.expected(characters.length() > 0, "The set of the characters should not be empty.");
+        Condition.expected(length >= 0, ERROR_MSG_NEGATIVE_LENGTH);
+        RandomSource rand = RandomSources.current();
+        char[] buffer = buffer(length);
+        int bound = characters.length();
+        int i = 0;
+        for (; i + 1 < length; i += 2) {
+            long bits = rand.nextLong();
+            buffer[i] = characters.charAt(index(bits >>> Integer.SIZE, bound));
+            buffer[i + 1] = characters.charAt(index(bits, bound));
+        }
+        if (i < length) {
+            buffer[i] = characters.charAt(index(rand.nextInt(), bound));
+        }
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Generate a random string with exactly {@code length} whitespace characters.
+     *
+     * @param length
+     *            the length of the string
+     * @return the random whitespace string
+     */
+    public static String whitespace(int length) {
+        Condition.expected(length >= 0, ERROR_MSG_NEGATIVE_LENGTH);
+        char[] buffer = buffer(length);
+        fill(buffer, length, WHITESPACE, RandomSources.current());
+        return new String(buffer, 0, length);
+    }
+
+    private static char[] table(RandomStringType randomStringType) {
+        switch (randomStringType) {
+        case ASCII:
+            return ASCII;
+        case ONLY_ALPHABETIC:
+            return ALPHABETIC;
+        case ONLY_ALPHANUMERIC:
+            return ALPHANUMERIC;
+        case ONLY_NUMERIC:
+            return NUMERIC;
+        default:
+            throw new TestException("Not supported random string type: " + randomStringType);
+        }
+    }
+
+    /**
+     * Fill the buffer from the table, two characters from one random long.
+     */
+    private static void fill(char[] buffer, int length, char[] table, RandomSource rand) {
+        int bound = table.length;
+        int i = 0;
+        for (; i + 1 < length; i += 2) {
+            long bits = rand.nextLong();
+            buffer[i] = table[index(bits >>> Integer.SIZE, bound)];
+            buffer[i + 1] = table[index(bits, bound)];
+        }
+        if (i < length) {
+            buffer[i] = table[index(rand.nextInt(), bound)];
+        }
+    }
+
+    /**
+     * Fill the buffer with any defined characters, supplementary code points are written as surrogate pairs if they fit in the buffer.
+     */
+    private static void fillCodePoints(char[] buffer, int length, RandomSource rand) {
+        int[] codePoints = CodePoints.DEFINED;
+        int i = 0;
+        while (i < length) {
+            int codePoint = codePoints[rand.nextInt(codePoints.length)];
+            if (Character.isBmpCodePoint(codePoint)) {
+                buffer[i++] = (char) codePoint;
+            } else if (i + 1 < length) {
+                buffer[i++] = Character.highSurrogate(codePoint);
+                buffer[i++] = Character.lowSurrogate(codePoint);
+            }
+        }
+    }
+
+    private static void fixBlankEdges(char[] buffer, int length, RandomSource rand) {
+        if (Character.isWhitespace(buffer[0])) {
+            buffer[0] = NON_SPACE_ASCII[rand.nextInt(NON_SPACE_ASCII.length)];
+        }
+        if (Character.isWhitespace(buffer[length - 1])) {
+            buffer[length - 1] = NON_SPACE_ASCII[rand.nextInt(NON_SPACE_ASCII.length)];
+        }
+    }
+
+    /**
+     * Map the low 32 random bits into {@code [0, bound)} with a multiply and shift.
+     */
+    private static int index(long bits, int bound) {
+        return (int) (((bits & 0xFFFFFFFFL) * bound) >>> Integer.SIZE);
+    }
+
+    private static char[] buffer(int length) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            if (length > MAX_RETAINED_BUFFER_SIZE) {
+                return new char[length];
+            }
+            buffer = new char[Math.min(MAX_RETAINED_BUFFER_SIZE, Math.max(length, buffer.length * 2))];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+    private static char[] chars(IntStream characters) {
+        int[] codePoints = characters.toArray();
+        char[] result = new char[codePoints.length];
+        for (int i = 0; i < codePoints.length; ++i) {
+            result[i] = (char) codePoints[i];
+        }
+        return result;
+    }
+
+    /**
+     * Lazily computed table of every defined, non surrogate and non private use code point.
+     */
+    private static final class CodePoints {
+
+        private static final int[] DEFINED = IntStream.rangeClosed(Character.MIN_CODE_POINT, Character.MAX_CODE_POINT).filter(codePoint -> {
+            int type = Character.getType(codePoint);
+            return type != Character.UNASSIGNED && type != Character.PRIVATE_USE && type != Character.SURROGATE;
+        }).toArray();
+    }
+}
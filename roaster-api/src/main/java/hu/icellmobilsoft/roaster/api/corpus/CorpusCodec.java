@@ -0,0 +1,600 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.corpus;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import hu.icellmobilsoft.roaster.api.TestException;
+import hu.icellmobilsoft.roaster.api.reflect.FieldAccessor;
+import hu.icellmobilsoft.roaster.api.reflect.Instantiator;
+
+/**
+ * Binary encoding of the corpus elements.
+ * <p>
+ * Every value starts with a tag byte. Objects are written field by field (every non-static, non-transient field of the class hierarchy)
+ * through {@link FieldAccessor}, and are created again through {@link Instantiator}. The classes are referenced by their index in the class
+ * table of the file, the table also records the field names and types (the constant names of the enums), so a snapshot of a changed class
+ * is recognized as stale.
+ * <p>
+ * Supported values: primitives and their wrappers, {@code String}, {@code BigInteger}, {@code BigDecimal}, enums, {@code Date},
+ * {@code XMLGregorianCalendar}, {@code Instant}, {@code LocalDate}, {@code LocalDateTime}, {@code OffsetDateTime}, primitive arrays, lists and
+ * sets (read back as {@code ArrayList} and {@code LinkedHashSet}) and application objects with a no-arg constructor (other JDK classes are
+ * rejected). Cyclic object graphs are not supported.
+ */
+final class CorpusCodec {
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_BOOLEAN = 1;
+    private static final byte TAG_BYTE = 2;
+    private static final byte TAG_SHORT = 3;
+    private static final byte TAG_CHAR = 4;
+    private static final byte TAG_INT = 5;
+    private static final byte TAG_LONG = 6;
+    private static final byte TAG_FLOAT = 7;
+    private static final byte TAG_DOUBLE = 8;
+    private static final byte TAG_STRING = 9;
+    private static final byte TAG_BIG_INTEGER = 10;
+    private static final byte TAG_BIG_DECIMAL = 11;
+    private static final byte TAG_ENUM = 12;
+    private static final byte TAG_DATE = 13;
+    private static final byte TAG_XML_CALENDAR = 14;
+    private static final byte TAG_INSTANT = 15;
+    private static final byte TAG_LOCAL_DATE = 16;
+    private static final byte TAG_LOCAL_DATE_TIME = 17;
+    private static final byte TAG_OFFSET_DATE_TIME = 18;
+    private static final byte TAG_BYTE_ARRAY = 19;
+    private static final byte TAG_LIST = 20;
+    private static final byte TAG_SET = 21;
+    private static final byte TAG_OBJECT = 22;
+    private static final byte TAG_BOOLEAN_ARRAY = 23;
+    private static final byte TAG_SHORT_ARRAY = 24;
+    private static final byte TAG_CHAR_ARRAY = 25;
+    private static final byte TAG_INT_ARRAY = 26;
+    private static final byte TAG_LONG_ARRAY = 27;
+    private static final byte TAG_FLOAT_ARRAY = 28;
+    private static final byte TAG_DOUBLE_ARRAY = 29;
+
+    private static final byte KIND_OBJECT = 0;
+    private static final byte KIND_ENUM = 1;
+
+    /**
+     * Nesting limit of the encoded objects, deeper graphs are most likely cyclic.
+     */
+    private static final int MAX_DEPTH = 512;
+
+    /**
+     * {@code DatatypeFactory} is not guaranteed to be thread safe, so every thread creates its own once.
+     */
+    private static final ThreadLocal<DatatypeFactory> DATATYPE_FACTORY = ThreadLocal.withInitial(CorpusCodec::newDatatypeFactory);
+
+    private CorpusCodec() {
+    }
+
+    /**
+     * Layout of one class of the class table.
+     */
+    static final class ClassLayout {
+
+        private final Class<?> type;
+        private final byte kind;
+        private final String[] names;
+        private final FieldAccessor[] accessors;
+        private final Object[] constants;
+
+        private ClassLayout(Class<?> type, byte kind, String[] names, FieldAccessor[] accessors, Object[] constants) {
+            this.type = type;
+            this.kind = kind;
+            this.names = names;
+            this.accessors = accessors;
+            this.constants = constants;
+        }
+
+        /**
+         * @param type
+         *            the class
+         * @return the current layout of the class
+         */
+        static ClassLayout of(Class<?> type) {
+            if (type.isEnum()) {
+                Object[] constants = type.getEnumConstants();
+                String[] names = new String[constants.length];
+                for (int i = 0; i < constants.length; ++i) {
+                    names[i] = ((Enum<?>) constants[i]).name();
+                }
+                return new ClassLayout(type, KIND_ENUM, names, null, constants);
+            }
+            List<String> names = new ArrayList<>();
+            List<FieldAccessor> accessors = new ArrayList<>();
+            Set<String> fieldNames = new HashSet<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic() || !fieldNames.add(field.getName())) {
+                        continue;
+                    }
+                    names.add(field.getName() + ':' + field.getType().getName());
+                    accessors.add(FieldAccessor.of(field));
+                }
+            }
+            return new ClassLayout(type, KIND_OBJECT, names.toArray(new String[0]), accessors.toArray(new FieldAccessor[0]), null);
+        }
+
+        /**
+         * @return the class
+         */
+        Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * @param other
+         *            the layout read from the class table
+         * @return true if the values written with {@code other} can be read with this layout
+         */
+        boolean isCompatible(ClassLayout other) {
+            return kind == other.kind && Arrays.equals(names, other.names);
+        }
+    }
+
+    /**
+     * Writes the values of one corpus, collecting the class table.
+     */
+    static final class Encoder {
+
+        private final Map<Class<?>, Integer> classIndexes = new HashMap<>();
+        private final List<ClassLayout> classes = new ArrayList<>();
+
+        /**
+         * @param out
+         *            the target
+         * @param value
+         *            the value to write
+         * @throws IOException
+         *             if the target could not be written
+         */
+        void write(DataOutput out, Object value) throws IOException {
+            write(out, value, 0);
+        }
+
+        /**
+         * Write the class table.
+         *
+         * @param out
+         *            the target
+         * @throws IOException
+         *             if the target could not be written
+         */
+        void writeClassTable(DataOutput out) throws IOException {
+            out.writeInt(classes.size());
+            for (ClassLayout layout : classes) {
+                writeString(out, layout.type.getName());
+                out.writeByte(layout.kind);
+                out.writeInt(layout.names.length);
+                for (String name : layout.names) {
+                    writeString(out, name);
+                }
+            }
+        }
+
+        private void write(DataOutput out, Object value, int depth) throws IOException {
+            if (depth > MAX_DEPTH) {
+                throw new TestException("The object graph is too deep (or cyclic) for the corpus.");
+            }
+            if (value == null) {
+                out.writeByte(TAG_NULL);
+            } else if (value instanceof String) {
+                out.writeByte(TAG_STRING);
+                writeString(out, (String) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(TAG_INT);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(TAG_LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(TAG_BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Enum) {
+                Enum<?> constant = (Enum<?>) value;
+                out.writeByte(TAG_ENUM);
+                out.writeInt(classIndex(constant.getDeclaringClass()));
+                out.writeInt(constant.ordinal());
+            } else if (value instanceof BigDecimal) {
+                BigDecimal decimal = (BigDecimal) value;
+                out.writeByte(TAG_BIG_DECIMAL);
+                out.writeInt(decimal.scale());
+                writeBytes(out, decimal.unscaledValue().toByteArray());
+            } else if (value instanceof XMLGregorianCalendar) {
+                out.writeByte(TAG_XML_CALENDAR);
+                writeString(out, ((XMLGregorianCalendar) value).toXMLFormat());
+            } else if (value instanceof List) {
+                writeCollection(out, TAG_LIST, (Collection<?>) value, depth);
+            } else if (value instanceof Set) {
+                writeCollection(out, TAG_SET, (Collection<?>) value, depth);
+            } else if (value instanceof byte[]) {
+                out.writeByte(TAG_BYTE_ARRAY);
+                writeBytes(out, (byte[]) value);
+            } else if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+                writePrimitiveArray(out, value);
+            } else if (value instanceof Double) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof Float) {
+                out.writeByte(TAG_FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Short) {
+                out.writeByte(TAG_SHORT);
+                out.writeShort((Short) value);
+            } else if (value instanceof Byte) {
+                out.writeByte(TAG_BYTE);
+                out.writeByte((Byte) value);
+            } else if (value instanceof Character) {
+                out.writeByte(TAG_CHAR);
+                out.writeChar((Character) value);
+            } else if (value instanceof BigInteger) {
+                out.writeByte(TAG_BIG_INTEGER);
+                writeBytes(out, ((BigInteger) value).toByteArray());
+            } else if (value instanceof Date) {
+                out.writeByte(TAG_DATE);
+                out.writeLong(((Date) value).getTime());
+            } else if (value instanceof Instant) {
+                Instant instant = (Instant) value;
+                out.writeByte(TAG_INSTANT);
+                out.writeLong(instant.getEpochSecond());
+                out.writeInt(instant.getNano());
+            } else if (value instanceof LocalDate) {
+                out.writeByte(TAG_LOCAL_DATE);
+                out.writeLong(((LocalDate) value).toEpochDay());
+            } else if (value instanceof LocalDateTime) {
+                out.writeByte(TAG_LOCAL_DATE_TIME);
+                writeLocalDateTime(out, (LocalDateTime) value);
+            } else if (value instanceof OffsetDateTime) {
+                OffsetDateTime time = (OffsetDateTime) value;
+                out.writeByte(TAG_OFFSET_DATE_TIME);
+                writeLocalDateTime(out, time.toLocalDateTime());
+                out.writeInt(time.getOffset().getTotalSeconds());
+            } else if (value instanceof Collection || value instanceof Map || value.getClass().isArray()
+                    || value.getClass().getClassLoader() == null) {
+                throw new TestException(MessageFormat.format("The corpus does not support values of type [{0}].", value.getClass().getName()));
+            } else {
+                writeObject(out, value, depth);
+            }
+        }
+
+        private static void writePrimitiveArray(DataOutput out, Object array) throws IOException {
+            if (array instanceof int[]) {
+                int[] values = (int[]) array;
+                out.writeByte(TAG_INT_ARRAY);
+                out.writeInt(values.length);
+                for (int element : values) {
+                    out.writeInt(element);
+                }
+            } else if (array instanceof long[]) {
+                long[] values = (long[]) array;
+                out.writeByte(TAG_LONG_ARRAY);
+                out.writeInt(values.length);
+                for (long element : values) {
+                    out.writeLong(element);
+                }
+            } else if (array instanceof double[]) {
+                double[] values = (double[]) array;
+                out.writeByte(TAG_DOUBLE_ARRAY);
+                out.writeInt(values.length);
+                for (double element : values) {
+                    out.writeDouble(element);
+                }
+            } else if (array instanceof float[]) {
+                float[] values = (float[]) array;
+                out.writeByte(TAG_FLOAT_ARRAY);
+                out.writeInt(values.length);
+                for (float element : values) {
+                    out.writeFloat(element);
+                }
+            } else if (array instanceof short[]) {
+                short[] values = (short[]) array;
+                out.writeByte(TAG_SHORT_ARRAY);
+                out.writeInt(values.length);
+                for (short element : values) {
+                    out.writeShort(element);
+                }
+            } else if (array instanceof char[]) {
+                char[] values = (char[]) array;
+                out.writeByte(TAG_CHAR_ARRAY);
+                out.writeInt(values.length);
+                for (char element : values) {
+                    out.writeChar(element);
+                }
+            } else {
+                boolean[] values = (boolean[]) array;
+                out.writeByte(TAG_BOOLEAN_ARRAY);
+                out.writeInt(values.length);
+                for (boolean element : values) {
+                    out.writeBoolean(element);
+                }
+            }
+        }
+
+        private void writeCollection(DataOutput out, byte tag, Collection<?> values, int depth) throws IOException {
+            out.writeByte(tag);
+            out.writeInt(values.size());
+            for (Object element : values) {
+                write(out, element, depth + 1);
+            }
+        }
+
+        private void writeObject(DataOutput out, Object value, int depth) throws IOException {
+            int index = classIndex(value.getClass());
+            ClassLayout layout = classes.get(index);
+            out.writeByte(TAG_OBJECT);
+            out.writeInt(index);
+            for (FieldAccessor accessor : layout.accessors) {
+                write(out, accessor.get(value), depth + 1);
+            }
+        }
+
+        private int classIndex(Class<?> type) {
+            Integer index = classIndexes.get(type);
+            if (index == null) {
+                index = classes.size();
+                classes.add(ClassLayout.of(type));
+                classIndexes.put(type, index);
+            }
+            return index;
+        }
+
+        private static void writeLocalDateTime(DataOutput out, LocalDateTime time) throws IOException {
+            out.writeLong(time.toLocalDate().toEpochDay());
+            out.writeLong(time.toLocalTime().toNanoOfDay());
+        }
+
+        private static void writeString(DataOutput out, String value) throws IOException {
+            writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Reads the values of one corpus with the class table of the file.
+     */
+    static final class Decoder {
+
+        private final ClassLayout[] classes;
+
+        private Decoder(ClassLayout[] classes) {
+            this.classes = classes;
+        }
+
+        /**
+         * Read the class table and resolve it against the current classes.
+         *
+         * @param buffer
+         *            the buffer positioned at the class table
+         * @param classLoader
+         *            the class loader of the classes
+         * @return the decoder, or {@code null} if a class is missing or has changed since the file was written
+         */
+        static Decoder readClassTable(ByteBuffer buffer, ClassLoader classLoader) {
+            ClassLayout[] classes = new ClassLayout[buffer.getInt()];
+            for (int i = 0; i < classes.length; ++i) {
+                String className = readString(buffer);
+                byte kind = buffer.get();
+                String[] names = new String[buffer.getInt()];
+                for (int n = 0; n < names.length; ++n) {
+                    names[n] = readString(buffer);
+                }
+                Class<?> type;
+                try {
+                    type = Class.forName(className, false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    return null;
+                }
+                ClassLayout current = ClassLayout.of(type);
+                if (!current.isCompatible(new ClassLayout(type, kind, names, null, null))) {
+                    return null;
+                }
+                classes[i] = current;
+            }
+            return new Decoder(classes);
+        }
+
+        /**
+         * @param buffer
+         *            the buffer positioned at the value
+         * @return the value
+         */
+        Object read(ByteBuffer buffer) {
+            byte tag = buffer.get();
+            switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_BOOLEAN:
+                return buffer.get() != 0;
+            case TAG_BYTE:
+                return buffer.get();
+            case TAG_SHORT:
+                return buffer.getShort();
+            case TAG_CHAR:
+                return buffer.getChar();
+            case TAG_INT:
+                return buffer.getInt();
+            case TAG_LONG:
+                return buffer.getLong();
+            case TAG_FLOAT:
+                return buffer.getFloat();
+            case TAG_DOUBLE:
+                return buffer.getDouble();
+            case TAG_STRING:
+                return readString(buffer);
+            case TAG_BIG_INTEGER:
+                return new BigInteger(readBytes(buffer));
+            case TAG_BIG_DECIMAL:
+                int scale = buffer.getInt();
+                return new BigDecimal(new BigInteger(readBytes(buffer)), scale);
+            case TAG_ENUM:
+                ClassLayout enumLayout = classes[buffer.getInt()];
+                return enumLayout.constants[buffer.getInt()];
+            case TAG_DATE:
+                return new Date(buffer.getLong());
+            case TAG_XML_CALENDAR:
+                return DATATYPE_FACTORY.get().newXMLGregorianCalendar(readString(buffer));
+            case TAG_INSTANT:
+                long epochSecond = buffer.getLong();
+                return Instant.ofEpochSecond(epochSecond, buffer.getInt());
+            case TAG_LOCAL_DATE:
+                return LocalDate.ofEpochDay(buffer.getLong());
+            case TAG_LOCAL_DATE_TIME:
+                return readLocalDateTime(buffer);
+            case TAG_OFFSET_DATE_TIME:
+                LocalDateTime time = readLocalDateTime(buffer);
+                return OffsetDateTime.of(time, ZoneOffset.ofTotalSeconds(buffer.getInt()));
+            case TAG_BYTE_ARRAY:
+                return readBytes(buffer);
+            case TAG_BOOLEAN_ARRAY:
+                boolean[] booleans = new boolean[buffer.getInt()];
+                for (int i = 0; i < booleans.length; ++i) {
+                    booleans[i] = buffer.get() != 0;
+                }
+                return booleans;
+            case TAG_SHORT_ARRAY:
+                short[] shorts = new short[buffer.getInt()];
+                buffer.asShortBuffer().get(shorts);
+                buffer.position(buffer.position() + shorts.length * Short.BYTES);
+                return shorts;
+            case TAG_CHAR_ARRAY:
+                char[] chars = new char[buffer.getInt()];
+                buffer.asCharBuffer().get(chars);
+                buffer.position(buffer.position() + chars.length * Character.BYTES);
+                return chars;
+            case TAG_INT_ARRAY:
+                int[] ints = new int[buffer.getInt()];
+                buffer.asIntBuffer().get(ints);
+                buffer.position(buffer.position() + ints.length * Integer.BYTES);
+                return ints;
+            case TAG_LONG_ARRAY:
+                long[] longs = new long[buffer.getInt()];
+                buffer.asLongBuffer().get(longs);
+                buffer.position(buffer.position() + longs.length * Long.BYTES);
+                return longs;
+            case TAG_FLOAT_ARRAY:
+                float[] floats = new float[buffer.getInt()];
+                buffer.asFloatBuffer().get(floats);
+                buffer.position(buffer.position() + floats.length * Float.BYTES);
+                return floats;
+            case TAG_DOUBLE_ARRAY:
+                double[] doubles = new double[buffer.getInt()];
+                buffer.asDoubleBuffer().get(doubles);
+                buffer.position(buffer.position() + doubles.length * Double.BYTES);
+                return doubles;
+            case TAG_LIST:
+                int listSize = buffer.getInt();
+                List<Object> list = new ArrayList<>(listSize);
+                for (int i = 0; i < listSize; ++i) {
+                    list.add(read(buffer));
+                }
+                return list;
+            case TAG_SET:
+                int setSize = buffer.getInt();
+                Set<Object> set = new LinkedHashSet<>();
+                for (int i = 0; i < setSize; ++i) {
+                    set.add(read(buffer));
+                }
+                return set;
+            case TAG_OBJECT:
+                return readObject(buffer);
+            default:
+                throw new TestException(MessageFormat.format("Corrupt corpus, unknown value tag [{0}].", tag));
+            }
+        }
+
+        private Object readObject(ByteBuffer buffer) {
+            ClassLayout layout = classes[buffer.getInt()];
+            Object result = Instantiator.newInstance(layout.type);
+            for (FieldAccessor accessor : layout.accessors) {
+                accessor.set(result, read(buffer));
+            }
+            return result;
+        }
+
+        private static LocalDateTime readLocalDateTime(ByteBuffer buffer) {
+            LocalDate date = LocalDate.ofEpochDay(buffer.getLong());
+            return LocalDateTime.of(date, LocalTime.ofNanoOfDay(buffer.getLong()));
+        }
+
+        private static String readString(ByteBuffer buffer) {
+            int length = buffer.getInt();
+            String result;
+            if (buffer.hasArray()) {
+                result = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            } else {
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                result = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return result;
+        }
+
+        private static byte[] readBytes(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+
+    private static DatatypeFactory newDatatypeFactory() {
+        try {
+            return DatatypeFactory.newInstance();
+        } catch (DatatypeConfigurationException e) {
+            throw new TestException("Cannot create DatatypeFactory instance", e);
+        }
+    }
+}
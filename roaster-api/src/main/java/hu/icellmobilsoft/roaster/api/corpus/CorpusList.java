@@ -0,0 +1,74 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.corpus;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list over the records of a memory mapped corpus file, every {@link #get(int)} decodes a new instance of the element.
+ *
+ * @param <T>
+ *            the type of the elements
+ */
+final class CorpusList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Class<T> type;
+    private final ByteBuffer buffer;
+    private final int offsetTable;
+    private final int size;
+    private final CorpusCodec.Decoder decoder;
+
+    /**
+     * @param type
+     *            the type of the elements
+     * @param buffer
+     *            the whole file, only absolute reads are used on it
+     * @param offsetTable
+     *            the position of the record offset table
+     * @param size
+     *            the number of the records
+     * @param decoder
+     *            the decoder of the file
+     */
+    CorpusList(Class<T> type, ByteBuffer buffer, int offsetTable, int size, CorpusCodec.Decoder decoder) {
+        this.type = type;
+        this.buffer = buffer;
+        this.offsetTable = offsetTable;
+        this.size = size;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ByteBuffer record = buffer.duplicate();
+        record.position((int) buffer.getLong(offsetTable + index * Long.BYTES));
+        return type.cast(decoder.read(record));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,342 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.corpus;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+import hu.icellmobilsoft.roaster.api.TestException;
+import hu.icellmobilsoft.roaster.api.dto.AnyDto;
+import hu.icellmobilsoft.roaster.api.random.RandomSources;
+
+/**
+ * Binary snapshots of generated test data sets.
+ * <p>
+ * {@link #list(Class, long, int)} generates the data set once with the given seed (see {@link RandomSources#withSeed(long, Supplier)}) and
+ * writes it to a file keyed by the class, the seed and the size. The data sets of custom generators
+ * ({@link #list(Class, String, long, int, Supplier)}) are keyed by the name of the generator too. The later calls (also in later test runs)
+ * memory map the file and return a lazy list, the elements are decoded only when they are read, so preparing a big fixture is an I/O read
+ * instead of the generation.
+ * <p>
+ * A snapshot is regenerated if the file is missing, corrupt or written with a different structure of the classes (field names and types,
+ * enum constants). The files are limited to 2 GB.
+ *
+ * @since 2.1.0
+ */
+public final class FixtureCorpus {
+
+    /**
+     * System property of the directory of the default corpus
+     */
+    public static final String DIRECTORY_PROPERTY = "roaster.corpus.dir";
+
+    /**
+     * The directory of the default corpus if {@value #DIRECTORY_PROPERTY} is not set
+     */
+    public static final String DEFAULT_DIRECTORY = "target/roaster-corpus";
+
+    /**
+     * Extension of the snapshot files
+     */
+    public static final String FILE_EXTENSION = ".corpus";
+
+    private static final int MAGIC = 0x52435250;
+
+    private static final int VERSION = 1;
+
+    /**
+     * magic, version, record count, class table offset
+     */
+    private static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES;
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private static final FixtureCorpus DEFAULT = new FixtureCorpus(Paths.get(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY)));
+
+    private final Path directory;
+
+    /**
+     * @param directory
+     *            the directory of the snapshot files
+     */
+    public FixtureCorpus(Path directory) {
+        Condition.notNull(directory, "directory should not be null.");
+        this.directory = directory;
+    }
+
+    /**
+     * @return the corpus in the directory of the {@value #DIRECTORY_PROPERTY} system property, or in {@value #DEFAULT_DIRECTORY}
+     */
+    public static FixtureCorpus getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return the directory of the snapshot files
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the data set of {@link AnyDto#list(Class, int)} generated with {@code seed}, from the snapshot if it exists.
+     *
+     * @param type
+     *            the type of the elements
+     * @param seed
+     *            the seed of the generation
+     * @param size
+     *            the number of the elements, at least one
+     * @param <T>
+     *            the type of the elements
+     * @return the read-only data set
+     */
+    public <T> List<T> list(Class<T> type, long seed, int size) {
+        Condition.notNull(type, "type should not be null.");
+        Condition.expected(size > 0, "size should be at least one.");
+        return load(type, file(type, seed, size), seed, size, () -> AnyDto.list(type, size));
+    }
+
+    /**
+     * Returns the data set of {@code generator} generated with {@code seed}, from the snapshot if it exists. The {@code name} identifies the
+     * generator, it is part of the file name, so the data sets of different generators of the same class are kept apart.
+     *
+     * @param type
+     *            the type of the elements
+     * @param name
+     *            the name of the generator, letters, digits, {@code '.'}, {@code '_'} and {@code '-'}
+     * @param seed
+     *            the seed of the generation
+     * @param size
+     *            the number of the elements, at least one
+     * @param generator
+     *            generates the data set (runs with the seeded source bound)
+     * @param <T>
+     *            the type of the elements
+     * @return the read-only data set
+     */
+    public <T> List<T> list(Class<T> type, String name, long seed, int size, Supplier<? extends List<T>> generator) {
+        Condition.notNull(type, "type should not be null.");
+        Condition.expected(size > 0, "size should be at least one.");
+        Condition.notNull(generator, "generator should not be null.");
+        return load(type, file(type, name, seed, size), seed, size, generator);
+    }
+
+    /**
+     * @param type
+     *            the type of the elements
+     * @param seed
+     *            the seed of the generation
+     * @param size
+     *            the number of the elements
+     * @return the snapshot file of the {@link #list(Class, long, int)} data set
+     */
+    public Path file(Class<?> type, long seed, int size) {
+        Condition.notNull(type, "type should not be null.");
+        return directory.resolve(type.getName() + '_' + seed + '_' + size + FILE_EXTENSION);
+    }
+
+    /**
+     * @param type
+     *            the type of the elements
+     * @param name
+     *            the name of the generator
+     * @param seed
+     *            the seed of the generation
+     * @param size
+     *            the number of the elements
+     * @return the snapshot file of the {@link #list(Class, String, long, int, Supplier)} data set
+     */
+    public Path file(Class<?> type, String name, long seed, int size) {
+        Condition.notNull(type, "type should not be null.");
+        Condition.expected(name != null && NAME_PATTERN.matcher(name).matches(), "name should contain only letters, digits, '.', '_' and '-'.");
+        // a class name never contains '-', so the named files do not collide with the files of the unnamed data sets
+        return directory.resolve(type.getName() + '-' + name + '_' + seed + '_' + size + FILE_EXTENSION);
+    }
+
+    private static <T> List<T> load(Class<T> type, Path file, long seed, int size, Supplier<? extends List<T>> generator) {
+        List<T> snapshot = open(file, type);
+        if (snapshot != null && snapshot.size() == size) {
+            return snapshot;
+        }
+        List<T> generated = RandomSources.withSeed(seed, generator::get);
+        Condition.ensure(generated.size() == size, "The generator created [{0}] elements instead of [{1}].", generated.size(), size);
+        write(file, generated);
+        return Collections.unmodifiableList(generated);
+    }
+
+    /**
+     * Write the elements to a snapshot file. The file is written next to the target and moved in place, so concurrent readers see either the
+     * former or the new snapshot.
+     *
+     * @param file
+     *            the snapshot file
+     * @param elements
+     *            the elements to write
+     */
+    public static void write(Path file, List<?> elements) {
+        Condition.notNull(file, "file should not be null.");
+        Condition.notNull(elements, "elements should not be null.");
+        Path temp = null;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            writeFile(temp, elements);
+            moveInPlace(temp, file);
+        } catch (IOException e) {
+            throw new TestException(MessageFormat.format("Could not write corpus file [{0}].", file), e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Memory map a snapshot file.
+     *
+     * @param file
+     *            the snapshot file
+     * @param type
+     *            the type of the elements
+     * @param <T>
+     *            the type of the elements
+     * @return lazy, read-only list of the elements
+     * @throws TestException
+     *             if the file is missing, corrupt or written with different classes
+     */
+    public static <T> List<T> read(Path file, Class<T> type) {
+        List<T> result = open(file, type);
+        if (result == null) {
+            throw new TestException(MessageFormat.format("Corpus file [{0}] is missing, corrupt or outdated.", file));
+        }
+        return result;
+    }
+
+    /**
+     * @return the list of the snapshot, or {@code null} if the file is missing, corrupt or outdated
+     */
+    private static <T> List<T> open(Path file, Class<T> type) {
+        Condition.notNull(file, "file should not be null.");
+        Condition.notNull(type, "type should not be null.");
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                return null;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new TestException(MessageFormat.format("Could not read corpus file [{0}].", file), e);
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            return null;
+        }
+        int size = buffer.getInt(Integer.BYTES * 2);
+        long classTable = buffer.getLong(Integer.BYTES * 3);
+        if (size < 0 || classTable < HEADER_SIZE || classTable >= buffer.limit()) {
+            return null;
+        }
+        ByteBuffer classTableBuffer = buffer.duplicate();
+        classTableBuffer.position((int) classTable);
+        CorpusCodec.Decoder decoder = CorpusCodec.Decoder.readClassTable(classTableBuffer, type.getClassLoader());
+        return decoder == null ? null : new CorpusList<>(type, buffer, HEADER_SIZE, size, decoder);
+    }
+
+    /**
+     * Layout: header, record offset table, records, class table.
+     */
+    private static void writeFile(Path file, List<?> elements) throws IOException {
+        int size = elements.size();
+        long[] offsets = new long[size];
+        long classTable;
+        CorpusCodec.Encoder encoder = new CorpusCodec.Encoder();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long position = HEADER_SIZE + (long) size * Long.BYTES;
+            channel.position(position);
+            OutputStream fileOut = new BufferedOutputStream(Channels.newOutputStream(channel));
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            DataOutputStream recordOut = new DataOutputStream(record);
+            for (int i = 0; i < size; ++i) {
+                record.reset();
+                encoder.write(recordOut, elements.get(i));
+                offsets[i] = position;
+                record.writeTo(fileOut);
+                position += record.size();
+            }
+            classTable = position;
+            record.reset();
+            encoder.writeClassTable(recordOut);
+            record.writeTo(fileOut);
+            position += record.size();
+            fileOut.flush();
+            Condition.expected(position <= Integer.MAX_VALUE, "The corpus file should not be larger than 2 GB.");
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + size * Long.BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(size).putLong(classTable);
+            for (long offset : offsets) {
+                header.putLong(offset);
+            }
+            header.flip();
+            long headerPosition = 0;
+            while (header.hasRemaining()) {
+                headerPosition += channel.write(header, headerPosition);
+            }
+        }
+    }
+
+    private static void moveInPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // the temp file is left behind, the snapshot itself is not affected
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dictionary;
+
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The built-in dictionaries of realistic values. Every dictionary is loaded once, at its first use, and sampled uniformly; use
+ * {@link WordDictionary#withCardinality(int)} and {@link WordDictionary#withZipf(double)} to shape the data like the production data.
+ * <p>
+ * The words of the resource based dictionaries are roughly ordered by frequency (population), so the low ranks are the most frequent
+ * ones in a Zipf skewed view.
+ *
+ * @since 2.1.0
+ */
+public final class Dictionaries {
+
+    private static final String RESOURCE_PATH = "hu/icellmobilsoft/roaster/api/dictionary/";
+
+    private static final int MIN_ZIP_CODE = 1000;
+
+    private static final int MAX_ZIP_CODE = 9999;
+
+    private Dictionaries() {
+    }
+
+    /**
+     * @return first names (Hungarian, English and German)
+     */
+    public static WordDictionary firstNames() {
+        return WordDictionary.fromResource(RESOURCE_PATH + "first-names.txt");
+    }
+
+    /**
+     * @return last names (mostly Hungarian)
+     */
+    public static WordDictionary lastNames() {
+        return WordDictionary.fromResource(RESOURCE_PATH + "last-names.txt");
+    }
+
+    /**
+     * @return cities (Hungarian and European capitals, big cities)
+     */
+    public static WordDictionary cities() {
+        return WordDictionary.fromResource(RESOURCE_PATH + "cities.txt");
+    }
+
+    /**
+     * @return e-mail domains
+     */
+    public static WordDictionary domains() {
+        return WordDictionary.fromResource(RESOURCE_PATH + "domains.txt");
+    }
+
+    /**
+     * @return ISO 3166-1 alpha-3 country codes of the JDK, in alphabetical order
+     */
+    public static WordDictionary countryCodes() {
+        return CountryCodes.DICTIONARY;
+    }
+
+    /**
+     * @return four digit (Hungarian style) zip codes, in ascending order
+     */
+    public static WordDictionary zipCodes() {
+        return ZipCodes.DICTIONARY;
+    }
+
+    private static final class CountryCodes {
+        private static final WordDictionary DICTIONARY = WordDictionary.of("country-codes",
+                Locale.getISOCountries(Locale.IsoCountryCode.PART1_ALPHA3).stream().sorted().collect(Collectors.toList()));
+    }
+
+    private static final class ZipCodes {
+        private static final WordDictionary DICTIONARY = WordDictionary.of("zip-codes",
+                IntStream.rangeClosed(MIN_ZIP_CODE, MAX_ZIP_CODE).mapToObj(Integer::toString).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,270 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+import hu.icellmobilsoft.roaster.api.TestException;
+import hu.icellmobilsoft.roaster.api.random.Distribution;
+import hu.icellmobilsoft.roaster.api.random.Distributions;
+import hu.icellmobilsoft.roaster.api.random.RandomSource;
+import hu.icellmobilsoft.roaster.api.random.RandomSources;
+
+/**
+ * Immutable pool of distinct words to draw realistic values from (names, cities, country codes...).
+ * <p>
+ * Every word is stored once, in rank order, and {@link #sample()} returns the pooled instance, so a million generated rows reference
+ * only as many strings as the dictionary has. The views created by {@link #withCardinality(int)} and {@link #withZipf(double)} share the
+ * pool of the dictionary they are created from, they only restrict the sampled ranks and the distribution over them:
+ *
+ * <pre>
+ * WordDictionary cities = Dictionaries.cities().withCardinality(20).withZipf(1.0);
+ * String city = cities.sample(); // "Budapest" is the most frequent value, about 28% of the draws
+ * </pre>
+ *
+ * The views are thread safe and sample in constant time, any {@link Distribution} can be used over the ranks
+ * ({@link #withDistribution(Distribution)}). The alias table of a skewed view is built once, at its first sample, so keep the view in a
+ * field if it is sampled often.
+ *
+ * @since 2.1.0
+ */
+public final class WordDictionary {
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Map<String, WordDictionary> RESOURCES = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final String[] words;
+    private final int cardinality;
+    private final Distribution distribution;
+
+    private WordDictionary(String name, String[] words, int cardinality, Distribution distribution) {
+        this.name = name;
+        this.words = words;
+        this.cardinality = cardinality;
+        this.distribution = distribution;
+    }
+
+    /**
+     * Creates a dictionary from the given words, in their iteration order (which is the rank order of the skewed views). The words are
+     * trimmed, blank words and duplicates are dropped.
+     *
+     * @param name
+     *            name of the dictionary (for error messages)
+     * @param words
+     *            the words
+     * @return the dictionary of the distinct words, uniformly sampled
+     */
+    public static WordDictionary of(String name, Collection<String> words) {
+        Condition.notNull(name, "name should not be null.");
+        Condition.notNull(words, "words should not be null.");
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String word : words) {
+            if (word != null && !word.isBlank()) {
+                distinct.add(word.strip());
+            }
+        }
+        Condition.expected(!distinct.isEmpty(), "WordDictionary [{0}] should contain at least one word.", name);
+        String[] pool = distinct.toArray(new String[0]);
+        return new WordDictionary(name, pool, pool.length, Distributions.uniform());
+    }
+
+    /**
+     * Loads a dictionary from an UTF-8 classpath resource, one word per line, lines starting with {@code #} are comments. The resource is
+     * loaded only once, the further calls return the same dictionary.
+     *
+     * @param resource
+     *            the classpath resource, e.g. {@code hu/icellmobilsoft/roaster/api/dictionary/cities.txt}
+     * @return the dictionary of the resource, uniformly sampled
+     * @throws TestException
+     *             if the resource can not be found or read
+     */
+    public static WordDictionary fromResource(String resource) {
+        Condition.notNull(resource, "resource should not be null.");
+        WordDictionary result = RESOURCES.get(resource);
+        return result != null ? result : RESOURCES.computeIfAbsent(resource, WordDictionary::load);
+    }
+
+    /**
+     * @return name of the dictionary
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of the sampled words
+     */
+    public int size() {
+        return cardinality;
+    }
+
+    /**
+     * @return the distribution of the sampled ranks
+     */
+    public Distribution getDistribution() {
+        return distribution;
+    }
+
+    /**
+     * @param rank
+     *            the rank of the word, between {@code 0} and {@link #size()} (exclusive)
+     * @return the pooled word of the rank
+     */
+    public String get(int rank) {
+        Condition.expected(rank >= 0 && rank < cardinality, "rank should be between 0 and {0}.", cardinality - 1);
+        return words[rank];
+    }
+
+    /**
+     * @return the sampled words in rank order, unmodifiable
+     */
+    public List<String> words() {
+        return Collections.unmodifiableList(Arrays.asList(words).subList(0, cardinality));
+    }
+
+    /**
+     * Restricts the sampling to the first {@code cardinality} words, e.g. to generate as many distinct cities as the production data
+     * has.
+     *
+     * @param cardinality
+     *            number of the sampled words, between {@code 1} and the size of the whole dictionary
+     * @return view of the dictionary with the same pool and distribution
+     */
+    public WordDictionary withCardinality(int cardinality) {
+        Condition.expected(cardinality > 0 && cardinality <= words.length, "cardinality should be between 1 and {0}.", words.length);
+        return cardinality == this.cardinality ? this : new WordDictionary(name, words, cardinality, distribution);
+    }
+
+    /**
+     * Skews the sampling by Zipf's law: the word of rank {@code k} (counted from {@code 1}) is drawn with probability proportional to
+     * {@code 1 / k^exponent}. Exponent {@code 1} is the classic Zipf distribution of natural data, {@code 0} is uniform.
+     *
+     * @param exponent
+     *            the exponent of the distribution, not negative
+     * @return view of the dictionary with the same pool and cardinality
+     * @see Distributions#zipf(double)
+     */
+    public WordDictionary withZipf(double exponent) {
+        return withDistribution(Distributions.zipf(exponent));
+    }
+
+    /**
+     * @param distribution
+     *            the distribution of the sampled ranks
+     * @return view of the dictionary with the same pool and cardinality
+     */
+    public WordDictionary withDistribution(Distribution distribution) {
+        Condition.notNull(distribution, "distribution should not be null.");
+        return distribution == this.distribution ? this : new WordDictionary(name, words, cardinality, distribution);
+    }
+
+    /**
+     * @return view of the dictionary sampled uniformly
+     */
+    public WordDictionary uniform() {
+        return withDistribution(Distributions.uniform());
+    }
+
+    /**
+     * Creates a new dictionary of the mapped words (e.g. ascii lower case variants for e-mail addresses). Words mapped to the same value
+     * are merged, keeping the rank of the first one, the distribution of this view is kept.
+     *
+     * @param mapper
+     *            the mapping of the words
+     * @return new dictionary with its own pool
+     */
+    public WordDictionary map(UnaryOperator<String> mapper) {
+        Condition.notNull(mapper, "mapper should not be null.");
+        Set<String> mapped = new LinkedHashSet<>();
+        for (int i = 0; i < cardinality; i++) {
+            String word = mapper.apply(words[i]);
+            if (word != null && !word.isBlank()) {
+                mapped.add(word);
+            }
+        }
+        return of(name, mapped).withDistribution(distribution);
+    }
+
+    /**
+     * @return a word drawn from {@link RandomSources#current()}
+     */
+    public String sample() {
+        return words[sampleRank(RandomSources.current())];
+    }
+
+    /**
+     * @param random
+     *            the source of the randomness
+     * @return the rank of a word drawn from {@code random}, between {@code 0} and {@link #size()} (exclusive)
+     */
+    public int sampleRank(RandomSource random) {
+        return distribution.sample(cardinality, random);
+    }
+
+    @Override
+    public String toString() {
+        return MessageFormat.format("WordDictionary[{0}, size={1}, distribution={2}]", name, cardinality, distribution);
+    }
+
+    private static WordDictionary load(String resource) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = WordDictionary.class.getClassLoader();
+        }
+        InputStream stream = classLoader.getResourceAsStream(resource);
+        if (stream == null) {
+            stream = WordDictionary.class.getClassLoader().getResourceAsStream(resource);
+        }
+        if (stream == null) {
+            throw new TestException(MessageFormat.format("WordDictionary resource [{0}] not found.", resource));
+        }
+        Set<String> lines = new LinkedHashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith(COMMENT_PREFIX)) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new TestException(MessageFormat.format("Could not read dictionary resource [{0}].", resource), e);
+        }
+        String name = resource.substring(resource.lastIndexOf('/') + 1);
+        int extension = name.lastIndexOf('.');
+        return of(extension > 0 ? name.substring(0, extension) : name, lines);
+    }
+}
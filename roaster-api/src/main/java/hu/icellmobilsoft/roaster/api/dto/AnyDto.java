@@ -20,19 +20,25 @@
 package hu.icellmobilsoft.roaster.api.dto;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.xml.bind.annotation.XmlType;
 
-import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.StringUtils;
-
 import hu.icellmobilsoft.roaster.api.Any;
+import hu.icellmobilsoft.roaster.api.Any.RandomStringType;
 import hu.icellmobilsoft.roaster.api.Condition;
+import hu.icellmobilsoft.roaster.api.RandomStrings;
+import hu.icellmobilsoft.roaster.api.dictionary.Dictionaries;
+import hu.icellmobilsoft.roaster.api.random.RandomSource;
+import hu.icellmobilsoft.roaster.api.random.RandomSources;
 
 /**
  * Class to hold any XSD related Any method (like random request id).
@@ -57,6 +63,16 @@ public abstract class AnyDto {
      */
     public static final String NUMERIC_CHARACTERS = "0123456789";
 
+    /**
+     * Default attempt budget of {@link #uniqueList(Class, Function, int)}, relative to the requested size
+     */
+    private static final int UNIQUE_ATTEMPT_FACTOR = 10;
+
+    /**
+     * Minimum number of the candidates generated at once by the parallel {@link #uniqueList(Class, Function, int, long, boolean)}
+     */
+    private static final int UNIQUE_PARALLEL_BATCH = 1024;
+
     private static final String ERR_MSG_COUNT_MUST_BE_GREATER_THAN_ONE = "count should be greater than zero!";
 
     private AnyDto() {
@@ -73,10 +89,10 @@ public abstract class AnyDto {
     public static final int SESSION_ID_SIZE = 50;
 
     /**
-     * @return random XSD valid request id.
+     * @return unique XSD valid request id (see {@link Any#xId()}), not longer than {@value #REQUEST_ID_TYPE_SIZE} characters.
      */
     public static String requestId() {
-        return Any.string(REQUEST_ID_TYPE_SIZE);
+        return Any.xId();
     }
 
     /**
@@ -95,7 +111,7 @@ public abstract class AnyDto {
      */
     public static String string(int count, String characters) {
         Condition.ensure(count > 0, ERR_MSG_COUNT_MUST_BE_GREATER_THAN_ONE);
-        return RandomStringUtils.random(count, characters);
+        return RandomStrings.generate(count, characters);
     }
 
     /**
@@ -110,21 +126,21 @@ public abstract class AnyDto {
     public static String string(int minCountInclusive, int maxCountExclusive, String characters) {
         Condition.ensure(minCountInclusive > 0, "minCountInclusive should not be negative!");
         Condition.ensure(maxCountExclusive > minCountInclusive, "maxCountExclusive should be greater than minCountInclusive!");
-        return string(minCountInclusive, characters) + string(Any.aPositiveInt(maxCountExclusive - minCountInclusive), characters);
+        return RandomStrings.generate(RandomSources.current().nextInt(minCountInclusive, maxCountExclusive), characters);
     }
 
     /**
-     * @return a new xsd valid randdom zipcode
+     * @return a new xsd valid random zipcode of the {@link Dictionaries#zipCodes()} dictionary (four digits)
      */
     public static String zipCode() {
-        return string(4, 11, UPPERCASE_ALPHABETIC_CHARACTERS + NUMERIC_CHARACTERS + StringUtils.SPACE + "-");
+        return Dictionaries.zipCodes().sample();
     }
 
     /**
-     * @return a new xsd valid random country code
+     * @return a new xsd valid random ISO 3166-1 alpha-3 country code of the {@link Dictionaries#countryCodes()} dictionary
      */
     public static String countryCode() {
-        return alphabetic(3).toUpperCase();
+        return Dictionaries.countryCodes().sample();
     }
 
     /**
@@ -134,7 +150,7 @@ public abstract class AnyDto {
      */
     public static String alphabetic(int count) {
         Condition.ensure(count > 0, ERR_MSG_COUNT_MUST_BE_GREATER_THAN_ONE);
-        return RandomStringUtils.randomAlphabetic(count);
+        return RandomStrings.generate(count, RandomStringType.ONLY_ALPHABETIC);
     }
 
     /**
@@ -147,8 +163,9 @@ public abstract class AnyDto {
     public static String alphaNumeric(int minCountInclusive, int maxCountExclusive) {
         Condition.ensure(minCountInclusive > -1, "minCountInclusive should not be negative!");
         Condition.ensure(maxCountExclusive >= minCountInclusive, "maxCountExclusive should be equal or greater than minCountInclusive!");
-        return RandomStringUtils.randomAlphanumeric(minCountInclusive)
-                + RandomStringUtils.randomAlphanumeric(ThreadLocalRandom.current().nextInt(maxCountExclusive - minCountInclusive));
+        int count = maxCountExclusive == minCountInclusive ? minCountInclusive
+                : RandomSources.current().nextInt(minCountInclusive, maxCountExclusive);
+        return RandomStrings.generate(count, RandomStringType.ONLY_ALPHANUMERIC);
     }
 
     /**
@@ -158,7 +175,7 @@ public abstract class AnyDto {
      */
     public static String alphaNumeric(int count) {
         Condition.ensure(count > 0, ERR_MSG_COUNT_MUST_BE_GREATER_THAN_ONE);
-        return RandomStringUtils.randomAlphanumeric(count);
+        return RandomStrings.generate(count, RandomStringType.ONLY_ALPHANUMERIC);
     }
 
     /**
@@ -190,7 +207,9 @@ public abstract class AnyDto {
      * @return unique list of the elements
      */
     public static <T, R> List<T> array(Class<T> clazz, Function<? super T, ? extends R> predicate, int maxSize) {
-        return new ArrayList<>(array(clazz, maxSize).stream().collect(Collectors.toMap(predicate, i -> i, (lhs, rhs) -> lhs)).values());
+        Condition.notNull(predicate, "Key extractor should not be null.");
+        Condition.expected(maxSize > 0, "Maximum size of the array should be least one.");
+        return uniqueElements(clazz, predicate, maxSize, maxSize, false);
     }
 
     /**
@@ -212,6 +231,116 @@ public abstract class AnyDto {
         return array(clazz, predicate, MAXIMUM_ARRAY_ELEMENT_NUMBER);
     }
 
+    /**
+     * Build a list of exactly {@code size} elements with distinct keys. The elements are generated one by one and the duplicates are dropped
+     * immediately, the generation stops at the {@code size}-th distinct key. At most {@value #UNIQUE_ATTEMPT_FACTOR} * {@code size} elements
+     * are generated.
+     *
+     * @param clazz
+     *            the base type of the elements
+     * @param keyExtractor
+     *            function that returns the unique key of the element
+     * @param size
+     *            the number of the elements in the result list
+     * @param <T>
+     *            the type of the list elements
+     * @param <K>
+     *            the type of the key
+     * @return list of the elements with distinct keys
+     * @throws hu.icellmobilsoft.roaster.api.PostconditionFailException
+     *             if there are not enough distinct keys within the attempt budget
+     */
+    public static <T, K> List<T> uniqueList(Class<T> clazz, Function<? super T, ? extends K> keyExtractor, int size) {
+        return uniqueList(clazz, keyExtractor, size, UNIQUE_ATTEMPT_FACTOR * (long) size, false);
+    }
+
+    /**
+     * Build a list of exactly {@code size} elements with distinct keys. The elements are generated one by one and the duplicates are dropped
+     * immediately, the generation stops at the {@code size}-th distinct key.
+     *
+     * @param clazz
+     *            the base type of the elements
+     * @param keyExtractor
+     *            function that returns the unique key of the element
+     * @param size
+     *            the number of the elements in the result list
+     * @param maxAttempts
+     *            the maximum number of the generated elements (including the duplicates)
+     * @param <T>
+     *            the type of the list elements
+     * @param <K>
+     *            the type of the key
+     * @return list of the elements with distinct keys
+     * @throws hu.icellmobilsoft.roaster.api.PostconditionFailException
+     *             if there are not enough distinct keys within {@code maxAttempts}
+     */
+    public static <T, K> List<T> uniqueList(Class<T> clazz, Function<? super T, ? extends K> keyExtractor, int size, long maxAttempts) {
+        return uniqueList(clazz, keyExtractor, size, maxAttempts, false);
+    }
+
+    /**
+     * Build a list of exactly {@code size} elements with distinct keys. The elements are generated one by one and the duplicates are dropped
+     * immediately, the generation stops at the {@code size}-th distinct key.
+     *
+     * @param clazz
+     *            the base type of the elements
+     * @param keyExtractor
+     *            function that returns the unique key of the element
+     * @param size
+     *            the number of the elements in the result list
+     * @param maxAttempts
+     *            the maximum number of the generated elements (including the duplicates)
+     * @param parallel
+     *            generate the candidates in parallel, the result is the same as the sequential result
+     * @param <T>
+     *            the type of the list elements
+     * @param <K>
+     *            the type of the key
+     * @return list of the elements with distinct keys
+     * @throws hu.icellmobilsoft.roaster.api.PostconditionFailException
+     *             if there are not enough distinct keys within {@code maxAttempts}
+     */
+    public static <T, K> List<T> uniqueList(Class<T> clazz, Function<? super T, ? extends K> keyExtractor, int size, long maxAttempts,
+            boolean parallel) {
+        Condition.notNull(keyExtractor, "Key extractor should not be null.");
+        Condition.expected(size > 0, "Size of the list should be least one.");
+        Condition.expected(maxAttempts >= size, "The maximum number of attempts should be at least the size of the list.");
+        List<T> result = uniqueElements(clazz, keyExtractor, size, maxAttempts, parallel);
+        Condition.ensure(result.size() == size, "Only [{0}] distinct [{1}] keys found in [{2}] attempts, expected [{3}].", result.size(),
+                clazz.getSimpleName(), maxAttempts, size);
+        return result;
+    }
+
+    /**
+     * Generate elements until {@code size} distinct keys are found or {@code maxAttempts} elements are generated. The first element of every
+     * key is kept in index order. In parallel the candidates are generated batch by batch (in index order) and the keys are checked
+     * sequentially after every batch, so the result is the same as the sequential result.
+     */
+    private static <T, K> List<T> uniqueElements(Class<T> clazz, Function<? super T, ? extends K> keyExtractor, int size, long maxAttempts,
+            boolean parallel) {
+        Condition.notNull(clazz, "Element class type should not be null.");
+        Set<Object> keys = new HashSet<>();
+        if (!parallel) {
+            return stream(clazz, maxAttempts).filter(element -> keys.add(keyExtractor.apply(element))).limit(size).collect(Collectors.toList());
+        }
+        Supplier<Supplier<T>> supplierFactory = () -> elementSupplier(clazz);
+        RandomSource random = RandomSources.current().split();
+        List<T> result = new ArrayList<>(size);
+        for (long origin = 0; origin < maxAttempts && result.size() < size;) {
+            long fence = origin + Math.min(maxAttempts - origin, Math.max(2L * (size - result.size()), UNIQUE_PARALLEL_BATCH));
+            List<T> candidates = StreamSupport.stream(GeneratingSpliterator.range(supplierFactory, random, origin, fence), true)
+                    .collect(Collectors.toList());
+            for (Iterator<T> iterator = candidates.iterator(); iterator.hasNext() && result.size() < size;) {
+                T element = iterator.next();
+                if (keys.add(keyExtractor.apply(element))) {
+                    result.add(element);
+                }
+            }
+            origin = fence;
+        }
+        return result;
+    }
+
     /**
      * Build an random list of elements. The maximum size of the list is {@code maxSize}
      *
@@ -227,21 +356,8 @@ public abstract class AnyDto {
         Condition.notNull(clazz, "Element class type should not be null.");
         Condition.expected(maxSize > 0, "Maximum size of the array should be least one.");
 
-        List<T> result = new ArrayList<>();
-        if (clazz.isEnum()) {
-            Any.fillToSize(result, clazz, Any::enumItem, maxSize);
-        } else if (String.class.isAssignableFrom(clazz)) {
-            Any.fillToSize(result, clazz, t -> (T) Any.string(), maxSize);
-        } else if (Builder.has(clazz)) {
-            IBaseBuilder<T> builder = Builder.get(clazz);
-            Any.fillToSize(result, builder::build, maxSize);
-        } else if (clazz.getAnnotation(XmlType.class) != null) {
-            IBaseBuilder<T> builder = GenericTypeBuilder.create(clazz, Any.createEntity(clazz));
-            Any.fillToSize(result, builder::build, maxSize);
-        } else {
-            Any.fillToSize(result, Any.createEntity(clazz), maxSize);
-        }
-
+        List<T> result = new ArrayList<>(maxSize);
+        Any.fillToSize(result, elementSupplier(clazz), maxSize);
         return result;
     }
 
@@ -270,19 +386,8 @@ public abstract class AnyDto {
      * @return a new list with random elements
      */
     public static <T> List<T> list(Class<T> clazz, int size) {
-        if (clazz.isEnum()) {
-            return list(clazz, () -> Any.enumItem(clazz), size);
-        } else if (String.class.isAssignableFrom(clazz)) {
-            return list(clazz, () -> (T) Any.string(), size);
-        } else if (Builder.has(clazz)) {
-            IBaseBuilder<T> builder = Builder.get(clazz);
-            return list(clazz, builder::build, size);
-        } else if (clazz.getAnnotation(XmlType.class) != null) {
-            IBaseBuilder<T> builder = GenericTypeBuilder.create(clazz, Any.createEntity(clazz));
-            return list(clazz, builder::build, size);
-        }
-
-        return list(clazz, Any.createEntity(clazz), size);
+        Condition.notNull(clazz, "Element class type should not be null.");
+        return list(clazz, elementSupplier(clazz), size);
     }
 
     /**
@@ -318,8 +423,69 @@ public abstract class AnyDto {
         Condition.notNull(supplier, "Element supplier should not be null.");
         Condition.expected(size > 0, "Size of the list should be least one.");
 
-        List<T> result = new ArrayList<>();
-        Any.fillToSize(result, clazz, t -> supplier.get(), size);
+        List<T> result = new ArrayList<>(size);
+        Any.fillToSize(result, supplier, size);
         return result;
     }
+
+    /**
+     * Generate an infinite, lazy stream of random elements. Every element is generated only when it is consumed, the stream can be split for
+     * parallel generation. The elements are created the same way as in {@link #list(Class)}.
+     * <p>
+     * The stream should be limited by the consumer (for example with {@link Stream#limit(long)}), or use {@link #stream(Class, long)}.
+     *
+     * @param clazz
+     *            the class definition of the object
+     * @param <T>
+     *            the type of the object
+     * @return a new infinite stream of random elements
+     */
+    public static <T> Stream<T> stream(Class<T> clazz) {
+        Condition.notNull(clazz, "Element class type should not be null.");
+        return StreamSupport.stream(GeneratingSpliterator.infinite(() -> elementSupplier(clazz)), false);
+    }
+
+    /**
+     * Generate a lazy stream of {@code size} random elements. Every element is generated only when it is consumed, the stream can be split for
+     * parallel generation. The elements are created the same way as in {@link #list(Class, int)}.
+     *
+     * @param clazz
+     *            the class definition of the object
+     * @param size
+     *            the number of the elements
+     * @param <T>
+     *            the type of the object
+     * @return a new stream of random elements
+     */
+    public static <T> Stream<T> stream(Class<T> clazz, long size) {
+        Condition.notNull(clazz, "Element class type should not be null.");
+        Condition.expected(size >= 0, "Size of the stream should not be negative.");
+        return StreamSupport.stream(GeneratingSpliterator.sized(() -> elementSupplier(clazz), size), false);
+    }
+
+    /**
+     * Resolve the element generator of the type: enumerations, strings, registered builders, xsd generated types and finally any type with a
+     * default constructor.
+     *
+     * @param clazz
+     *            the class definition of the object
+     * @param <T>
+     *            the type of the object
+     * @return the supplier of the random elements
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Supplier<T> elementSupplier(Class<T> clazz) {
+        if (clazz.isEnum()) {
+            return () -> Any.enumItem(clazz);
+        } else if (String.class.isAssignableFrom(clazz)) {
+            return () -> (T) Any.string();
+        } else if (Builder.has(clazz)) {
+            IBaseBuilder<T> builder = Builder.get(clazz);
+            return builder::build;
+        } else if (clazz.getAnnotation(XmlType.class) != null) {
+            IBaseBuilder<T> builder = GenericTypeBuilder.create(clazz, Any.createEntity(clazz));
+            return builder::build;
+        }
+        return Any.createEntity(clazz);
+    }
 }
@@ -0,0 +1,49 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dto;
+
+/**
+ * Execution mode of a {@link GenericTypeBuilder} build.
+ */
+public enum BuildMode {
+
+    /**
+     * The whole object graph is built on the calling thread.
+     */
+    SEQUENTIAL,
+
+    /**
+     * The independent sub-trees (nested xsd type fields and the elements of the nested type lists) are built as fork/join tasks. If the
+     * {@link GenerationBudget} limits the node count, the sub-trees race for the remaining nodes, so the shape of the graph may differ between
+     * builds.
+     */
+    PARALLEL,
+
+    /**
+     * Like {@link #PARALLEL}, but the shape of the graph is always the same as the shape of a {@link #SEQUENTIAL} build: if the
+     * {@link GenerationBudget} limits the node count, the build falls back to sequential.
+     * <p>
+     * The mode itself does not make the values deterministic: without a seed every thread takes the values from its own
+     * {@link java.util.concurrent.ThreadLocalRandom}, so the values differ between the builds. The values are reproducible only if the build
+     * runs with a seeded {@link hu.icellmobilsoft.roaster.api.random.RandomSource} (see
+     * {@link hu.icellmobilsoft.roaster.api.random.RandomSources#withSeed(long, java.util.function.Supplier)}).
+     */
+    DETERMINISTIC
+}
@@ -19,10 +19,13 @@
  */
 package hu.icellmobilsoft.roaster.api.dto;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -33,9 +36,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -44,6 +48,7 @@ import jakarta.xml.bind.annotation.XmlType;
 import org.apache.commons.lang3.StringUtils;
 
 import hu.icellmobilsoft.roaster.api.Condition;
+import hu.icellmobilsoft.roaster.api.reflect.Instantiator;
 
 /**
  * Class to hold all the builder methods.
@@ -54,20 +59,25 @@ public class Builder {
     /**
      * The root package of the builder classes.
      */
-    private static final String BUILDER_ROOT_PACKAGE = "hu.icellmobilsoft.roaster.common.test";
+    static final String BUILDER_ROOT_PACKAGE = "hu.icellmobilsoft.roaster.common.test";
 
-    private static final Object builderListLock = new Object();
+    /**
+     * The classpath resource of the builder index, written by the {@link BuilderIndexProcessor} at compile time.
+     */
+    static final String BUILDER_INDEX_RESOURCE = "META-INF/roaster/builder.index";
+
+    private static final Object builderRegistryLock = new Object();
 
     /**
-     * Static list of the registered builders.
+     * Static registry of the builder factories, indexed by the target class of the builders.
      */
-    private static List<IBaseBuilder<?>> builderList = null;
+    private static volatile Map<Class<?>, Supplier<IBaseBuilder<?>>> builderRegistry = null;
 
     private Builder() {
     }
 
     /**
-     * return the builder for the given class ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+     * return a new builder instance for the given class. The builder is not shared, so its custom fill methods do not leak between the callers.
      *
      * @param <T>
      *            generic class
@@ -80,39 +90,17 @@ public class Builder {
         Condition.expected(!Collection.class.isAssignableFrom(targetClazz) || Map.class.isAssignableFrom(targetClazz),
                 "Target class should not be an collection");
 
-        Optional<IBaseBuilder<?>> builder = getBuilderList().stream().parallel().filter(b -> b.getTargetClass() == targetClazz).findAny();
+        Supplier<IBaseBuilder<?>> builderFactory = getBuilderRegistry().get(targetClazz);
         IBaseBuilder<T> result = null;
-        if (builder.isPresent()) {
-            result = (IBaseBuilder<T>) builder.get();
-            result.clear();
+        if (builderFactory != null) {
+            result = (IBaseBuilder<T>) builderFactory.get();
         } else if (targetClazz.getAnnotation(XmlType.class) != null) {
-            result = GenericTypeBuilder.create(targetClazz, createEntity(targetClazz));
+            result = GenericTypeBuilder.create(targetClazz, Instantiator.of(targetClazz));
         }
-        Condition.ensure(result != null, MessageFormat.format("There is no builder for class [{0}].", targetClazz.getSimpleName()));
+        Condition.ensure(result != null, "There is no builder for class [{0}].", targetClazz.getSimpleName());
         return result;
     }
 
-    /**
-     * create an entity through the {@code new instance} and convert exceptions to {@code TestException}
-     *
-     * @param targetClass
-     *            the class to create an instance
-     * @param <C>
-     *            the type of the instance
-     * @return the new object
-     */
-    private static <C> Supplier<C> createEntity(final Class<C> targetClass) {
-        return () -> {
-            C instance = null;
-            try {
-                instance = targetClass.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                Condition.shouldNeverThrown("Failed to create the target class", e);
-            }
-            return instance;
-        };
-    }
-
     /**
      * @param <T>
      *            generic class
@@ -122,36 +110,93 @@ public class Builder {
      */
     public static <T> boolean has(Class<T> targetClazz) {
         Condition.notNull(targetClazz, "Target class should not be null.");
-        Optional<IBaseBuilder<?>> builder = getBuilderList().stream().parallel().filter(b -> b.getTargetClass() == targetClazz).findAny();
-        return builder.isPresent();
+        return getBuilderRegistry().containsKey(targetClazz);
     }
 
     /**
-     * This method will initialize the builder list it is not present. The builder will be loaded from package {@value Builder#BUILDER_ROOT_PACKAGE}
+     * This method will initialize the builder registry if it is not present. The builders will be loaded from the
+     * {@value Builder#BUILDER_INDEX_RESOURCE} indexes, the classpath roots without index are searched in package
+     * {@value Builder#BUILDER_ROOT_PACKAGE}.
+     * Every builder class is instantiated once to get its target class, the registry holds only the factories of the builders.
      *
-     * @return the list of the builders
+     * @return the builder factories indexed by the target class
      */
-    private static List<IBaseBuilder<?>> getBuilderList() {
-        List<IBaseBuilder<?>> tempList = builderList;
-        if (tempList == null || tempList.isEmpty()) {
-            synchronized (builderListLock) {
-                tempList = builderList;
-                if (tempList == null) {
-                    List<Class<?>> classes = getClasses(BUILDER_ROOT_PACKAGE);
-                    List<IBaseBuilder<?>> list = new ArrayList<>();
+    private static Map<Class<?>, Supplier<IBaseBuilder<?>>> getBuilderRegistry() {
+        Map<Class<?>, Supplier<IBaseBuilder<?>>> registry = builderRegistry;
+        if (registry == null) {
+            synchronized (builderRegistryLock) {
+                registry = builderRegistry;
+                if (registry == null) {
+                    Map<Class<?>, Supplier<IBaseBuilder<?>>> map = new HashMap<>();
+                    List<Class<?>> classes = getBuilderClasses();
                     for (Class<?> c : classes) {
                         if (IBaseBuilder.class.isAssignableFrom(c) && !GenericTypeBuilder.class.isAssignableFrom(c) && !c.isInterface()
                                 && !Modifier.isAbstract(c.getModifiers())) {
-                            IBaseBuilder<?> iBaseBuilder = instantiateBuilder(c);
-                            list.add(iBaseBuilder);
+                            IBaseBuilder<?> prototype = instantiateBuilder(c);
+                            Supplier<?> factory = Instantiator.of(c);
+                            map.putIfAbsent(prototype.getTargetClass(), () -> (IBaseBuilder<?>) factory.get());
                         }
                     }
-                    tempList = list;
-                    builderList = tempList;
+                    registry = Collections.unmodifiableMap(map);
+                    builderRegistry = registry;
                 }
             }
         }
-        return builderList;
+        return registry;
+    }
+
+    /**
+     * Load the builder classes. The classes of a classpath root (directory or jar) with builder index are listed in the
+     * {@value Builder#BUILDER_INDEX_RESOURCE} resource, the other roots are searched in package {@value Builder#BUILDER_ROOT_PACKAGE}, so the
+     * builders compiled without the {@link BuilderIndexProcessor} are found too.
+     *
+     * @return the Class object list
+     */
+    static List<Class<?>> getBuilderClasses() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        String packagePath = BUILDER_ROOT_PACKAGE.replace('.', '/');
+        Set<String> indexedRoots = new HashSet<>();
+        List<Class<?>> result = new ArrayList<>();
+        try {
+            for (URL index : Collections.list(classLoader.getResources(BUILDER_INDEX_RESOURCE))) {
+                indexedRoots.add(StringUtils.removeEnd(index.toString(), BUILDER_INDEX_RESOURCE));
+                result.addAll(getIndexedClasses(index, classLoader));
+            }
+            for (URL packageUrl : Collections.list(classLoader.getResources(packagePath))) {
+                String root = StringUtils.removeEnd(StringUtils.removeEnd(packageUrl.toString(), "/"), packagePath);
+                if (!indexedRoots.contains(root)) {
+                    result.addAll(getClasses(packageUrl, BUILDER_ROOT_PACKAGE));
+                }
+            }
+        } catch (IOException e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Failed to get the builder classes from package [{0}].", BUILDER_ROOT_PACKAGE), e);
+        }
+        return result;
+    }
+
+    /**
+     * Load the builder classes listed in one builder index.
+     *
+     * @param index
+     *            the url of the index
+     * @param classLoader
+     *            the class loader of the builders
+     * @return the Class object list
+     */
+    private static List<Class<?>> getIndexedClasses(URL index, ClassLoader classLoader) {
+        List<Class<?>> result = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String className = line.trim();
+                if (!className.isEmpty() && !className.startsWith("#")) {
+                    result.add(Class.forName(className, false, classLoader));
+                }
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not read builder index [{0}].", index), e);
+        }
+        return result;
     }
 
     /**
@@ -167,13 +212,7 @@ public class Builder {
         Condition.expected(BaseTypeBuilder.class.isAssignableFrom(builderClass), "[{0}] should be implement IBaseBuilder class.",
                 builderClass.getSimpleName());
         Condition.expected(!Modifier.isAbstract(builderClass.getModifiers()), "[{0}] should not be abstract class.", builderClass.getSimpleName());
-        IBaseBuilder<?> builder = null;
-        try {
-            builder = (BaseTypeBuilder<?>) builderClass.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
-            Condition.shouldNeverThrown(MessageFormat.format("[{0}] could not be instantiate: ", builderClass.getSimpleName()), e);
-        }
-        return builder;
+        return (IBaseBuilder<?>) Instantiator.newInstance(builderClass);
     }
 
     /**
@@ -236,7 +275,8 @@ public class Builder {
                 } else if (isClass(path)) {
                     String fileName = path.getFileName().toString();
                     try {
-                        Class<?> clazz = Class.forName(packageName + '.' + fileName.substring(0, fileName.length() - 6));
+                        Class<?> clazz = Class.forName(packageName + '.' + fileName.substring(0, fileName.length() - 6), true,
+                                Thread.currentThread().getContextClassLoader());
                         if (clazz != null) {
                             result.add(clazz);
                         }
@@ -295,12 +335,7 @@ public class Builder {
         List<Class<?>> result = new ArrayList<>();
         try {
             for (URL u : Collections.list(classLoader.getResources(path))) {
-                final String[] paths = u.toString().split("!");
-                if (paths.length == 1) {
-                    result.addAll(findClasses(Paths.get(URI.create(paths[0])), packageName));
-                } else {
-                    result.addAll(getClassesFromJar(paths[0], paths[1], packageName));
-                }
+                result.addAll(getClasses(u, packageName));
             }
         } catch (IOException e) {
             Condition.shouldNeverThrown(MessageFormat.format("Failed to get the classes from package [{0}].", packageName), e);
@@ -308,4 +343,19 @@ public class Builder {
         return result;
     }
 
+    /**
+     * @param packageUrl
+     *            the url of the package directory in one classpath root
+     * @param packageName
+     *            the name of the package
+     * @return the classes of the package and its subpackages from the classpath root
+     */
+    private static List<Class<?>> getClasses(final URL packageUrl, final String packageName) {
+        final String[] paths = packageUrl.toString().split("!");
+        if (paths.length == 1) {
+            return findClasses(Paths.get(URI.create(paths[0])), packageName);
+        }
+        return getClassesFromJar(paths[0], paths[1], packageName);
+    }
+
 }
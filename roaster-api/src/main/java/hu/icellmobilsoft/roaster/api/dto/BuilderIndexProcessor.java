@@ -0,0 +1,169 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor to collect the builder classes at compile time.
+ * <p>
+ * It writes the binary name of every concrete {@link BaseTypeBuilder} subclass from the package {@value Builder#BUILDER_ROOT_PACKAGE} into the
+ * {@value Builder#BUILDER_INDEX_RESOURCE} resource, so {@link Builder} does not have to walk through the classpath to find them. An index left
+ * in the class output by a previous (incremental) compilation is merged: its entries are kept while the class still exists and was not
+ * recompiled in this run.
+ * <p>
+ * The processor is registered as a service, javac up to JDK 22 runs it automatically if the roaster-api jar is on the compile classpath (and
+ * no explicit annotation processor path is set). From JDK 23 the implicit processing is disabled by default, the processor has to be added
+ * to the annotation processor path or enabled with {@code -proc:full}.
+ */
+@SupportedAnnotationTypes("*")
+public class BuilderIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> builderClassNames = new TreeSet<>();
+
+    /**
+     * Binary name of every compiled class, their previous index entries are replaced by the current state
+     */
+    private final Set<String> compiledClassNames = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement baseTypeBuilder = processingEnv.getElementUtils().getTypeElement(BaseTypeBuilder.class.getCanonicalName());
+        if (baseTypeBuilder == null) {
+            return false;
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            TypeMirror baseType = processingEnv.getTypeUtils().erasure(baseTypeBuilder.asType());
+            TypeElement genericTypeBuilder = processingEnv.getElementUtils().getTypeElement(GenericTypeBuilder.class.getCanonicalName());
+            TypeMirror genericType = processingEnv.getTypeUtils().erasure(genericTypeBuilder.asType());
+            for (Element element : roundEnv.getRootElements()) {
+                collect(element, baseType, genericType);
+            }
+        }
+        return false;
+    }
+
+    private void collect(Element element, TypeMirror baseType, TypeMirror genericType) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        TypeElement typeElement = (TypeElement) element;
+        compiledClassNames.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+        if (isBuilder(typeElement, baseType, genericType)) {
+            builderClassNames.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+        }
+        for (Element enclosed : typeElement.getEnclosedElements()) {
+            collect(enclosed, baseType, genericType);
+        }
+    }
+
+    private boolean isBuilder(TypeElement typeElement, TypeMirror baseType, TypeMirror genericType) {
+        if (typeElement.getKind() != ElementKind.CLASS || typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        if (typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+        if (!packageName.equals(Builder.BUILDER_ROOT_PACKAGE) && !packageName.startsWith(Builder.BUILDER_ROOT_PACKAGE + '.')) {
+            return false;
+        }
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror type = types.erasure(typeElement.asType());
+        return types.isSubtype(type, baseType) && !types.isSubtype(type, genericType);
+    }
+
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+        Set<String> previous = readPreviousIndex(filer);
+        Set<String> index = new TreeSet<>(builderClassNames);
+        for (String className : previous) {
+            if (!compiledClassNames.contains(className) && processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) != null) {
+                index.add(className);
+            }
+        }
+        if (index.equals(previous)) {
+            return;
+        }
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", Builder.BUILDER_INDEX_RESOURCE);
+            try (Writer writer = file.openWriter()) {
+                for (String className : index) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager()
+                    .printMessage(Diagnostic.Kind.WARNING,
+                            "Failed to write the builder index [" + Builder.BUILDER_INDEX_RESOURCE + "]: " + e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * @return the entries of the index in the class output, empty if there is no index yet
+     */
+    private Set<String> readPreviousIndex(Filer filer) {
+        Set<String> result = new TreeSet<>();
+        try {
+            FileObject file = filer.getResource(StandardLocation.CLASS_OUTPUT, "", Builder.BUILDER_INDEX_RESOURCE);
+            try (BufferedReader reader = new BufferedReader(file.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String className = line.trim();
+                    if (!className.isEmpty() && !className.startsWith("#")) {
+                        result.add(className);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // there is no previous index
+        }
+        return result;
+    }
+}
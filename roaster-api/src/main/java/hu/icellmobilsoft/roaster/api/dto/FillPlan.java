@@ -0,0 +1,518 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dto;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlEnum;
+import jakarta.xml.bind.annotation.XmlSchemaType;
+import jakarta.xml.bind.annotation.XmlType;
+
+import org.apache.commons.lang3.StringUtils;
+
+import hu.icellmobilsoft.roaster.api.Any;
+import hu.icellmobilsoft.roaster.api.TestException;
+import hu.icellmobilsoft.roaster.api.reflect.FieldAccessor;
+
+/**
+ * Precompiled field fill steps of an XSD generated type, used by {@link GenericTypeBuilder}.
+ * <p>
+ * The plan is computed only once per class: the field list, the XML annotations and the field accessors are resolved when the plan is compiled, so
+ * filling an entity only runs the value suppliers and the setters. The nested xsd types and the lists are generated within the
+ * {@link GenerationBudget} of the running build.
+ */
+final class FillPlan {
+
+    private static final int MAX_STRING_LENGTH = 30;
+
+    private static final int MAX_ARRAY_SIZE = 100;
+
+    /**
+     * Returned by a value generator when the field should be left untouched.
+     */
+    private static final Object SKIP = new Object();
+
+    private static final ClassValue<FillPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected FillPlan computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final FieldStep[] steps;
+
+    private FillPlan(List<FieldStep> steps) {
+        this.steps = steps.toArray(new FieldStep[0]);
+    }
+
+    /**
+     * Returns the fill plan of the given type, the plan is compiled at the first call.
+     *
+     * @param type
+     *            the xsd type
+     * @return the fill plan of the type
+     */
+    static FillPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Fill the fields of the entity with random values.
+     *
+     * @param entity
+     *            the entity object
+     * @param context
+     *            the context of the running build
+     */
+    void fill(Object entity, GenerationContext context) {
+        if (context.isParallel()) {
+            fillParallel(entity, context);
+            return;
+        }
+        for (FieldStep step : steps) {
+            step.apply(entity, context);
+        }
+    }
+
+    /**
+     * The nested xsd type fields are forked, the other fields are filled meanwhile on the current thread.
+     */
+    private void fillParallel(Object entity, GenerationContext context) {
+        ForkJoinTask<?>[] forked = new ForkJoinTask<?>[steps.length];
+        for (int i = 0; i < steps.length; ++i) {
+            FieldStep step = steps[i];
+            if (step.nestedType && step.listElementType == null) {
+                if (context.canDescend() && context.tryReserveNode()) {
+                    Class<?> type = step.fieldType;
+                    forked[i] = context.fork(() -> Builder.get(type).build());
+                }
+            } else {
+                step.apply(entity, context);
+            }
+        }
+        for (int i = 0; i < steps.length; ++i) {
+            if (forked[i] != null) {
+                steps[i].set(entity, forked[i].join());
+            }
+        }
+    }
+
+    /**
+     * Estimate the number of the objects generated for the type: the entity itself, the nested xsd types and the list elements.
+     *
+     * @param type
+     *            the xsd type of the root entity
+     * @param budget
+     *            the budget of the build
+     * @return the estimated node count, at most {@link GenerationBudget#getMaxNodes()}
+     */
+    static long estimateNodeCount(Class<?> type, GenerationBudget budget) {
+        return new NodeCounter(budget, type).count(type, 0, budget.getMaxNodes());
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long result = a + b;
+        return result < 0 ? Long.MAX_VALUE : result;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        return b != 0 && a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+    }
+
+    private static FillPlan compile(Class<?> type) {
+        List<FieldStep> steps = new ArrayList<>();
+        for (Field field : getAllFields(type)) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            FieldStep step = fieldStep(field);
+            if (step != null) {
+                steps.add(step);
+            }
+        }
+        return new FillPlan(steps);
+    }
+
+    private static List<Field> getAllFields(Class<?> clazz) {
+        List<Field> result = new ArrayList<>();
+        Class<?> tmp = clazz;
+        while (tmp != Object.class) {
+            result.addAll(Arrays.asList(tmp.getDeclaredFields()));
+            tmp = tmp.getSuperclass();
+        }
+        return result;
+    }
+
+    /**
+     * @param field
+     *            the field of the entity
+     * @return true if the field is annotated with {@code required=true}
+     */
+    private static boolean isRequiredField(final Field field) {
+        XmlElement xmlElement = field.getAnnotation(XmlElement.class);
+        XmlAttribute xmlAttribute = field.getAnnotation(XmlAttribute.class);
+        return (xmlElement != null && xmlElement.required()) || (xmlAttribute != null && xmlAttribute.required());
+    }
+
+    /**
+     * @param field
+     *            the field of the entity
+     * @return true if the type of the field is an enumeration
+     */
+    private static boolean isEnumField(final Field field) {
+        return field.getType().getAnnotation(XmlEnum.class) != null;
+    }
+
+    /**
+     * Resolve the fill step of the field. The required list and nested xsd type fields are generated within the budget, the other values
+     * through a plain supplier.
+     *
+     * @param field
+     *            the field of the entity
+     * @return the fill step of the field or {@code null} if the field should not be filled
+     */
+    private static FieldStep fieldStep(final Field field) {
+        Class<?> fieldType = field.getType();
+        if (isRequiredField(field) && !isEnumField(field)) {
+            XmlSchemaType xmlSchemaType = field.getAnnotation(XmlSchemaType.class);
+            boolean plainType = xmlSchemaType == null || StringUtils.equals("string", xmlSchemaType.name());
+            if (plainType && List.class.isAssignableFrom(fieldType)) {
+                ParameterizedType listType = (ParameterizedType) field.getGenericType();
+                Class<?> elementType = (Class<?>) listType.getActualTypeArguments()[0];
+                boolean nested = isNestedType(elementType);
+                return new FieldStep(field, elementType, nested, context -> generateList(elementType, nested, context));
+            } else if (plainType && fieldType.getAnnotation(XmlType.class) != null) {
+                return new FieldStep(field, null, true, context -> generateNested(fieldType, context));
+            }
+        }
+        Supplier<?> valueSupplier = valueSupplier(field);
+        return valueSupplier == null ? null : new FieldStep(field, null, false, context -> valueSupplier.get());
+    }
+
+    private static boolean isNestedType(Class<?> type) {
+        return !type.isEnum() && (Builder.has(type) || type.getAnnotation(XmlType.class) != null);
+    }
+
+    private static Object generateNested(Class<?> type, GenerationContext context) {
+        if (!context.canDescend() || !context.tryReserveNode()) {
+            return SKIP;
+        }
+        return context.descend(() -> Builder.get(type).build());
+    }
+
+    private static Object generateList(Class<?> elementType, boolean nested, GenerationContext context) {
+        if (nested && !context.canDescend()) {
+            return SKIP;
+        }
+        int size = context.getBudget().getMaxListSize();
+        if (nested && context.isParallel()) {
+            return generateListParallel(elementType, size, context);
+        }
+        Supplier<?> elementSupplier = AnyDto.elementSupplier(elementType);
+        List<Object> result = new ArrayList<>(size);
+        for (int i = 0; i < size && context.tryReserveNode(); ++i) {
+            result.add(nested ? context.descend(elementSupplier) : elementSupplier.get());
+        }
+        return result;
+    }
+
+    /**
+     * The nodes of the elements are reserved in order, then every element is forked with its own element supplier (builder instance).
+     */
+    private static Object generateListParallel(Class<?> elementType, int size, GenerationContext context) {
+        List<ForkJoinTask<?>> forked = new ArrayList<>(size);
+        for (int i = 0; i < size && context.tryReserveNode(); ++i) {
+            forked.add(context.fork(() -> AnyDto.elementSupplier(elementType).get()));
+        }
+        List<Object> result = new ArrayList<>(forked.size());
+        for (ForkJoinTask<?> task : forked) {
+            result.add(task.join());
+        }
+        return result;
+    }
+
+    /**
+     * Resolve the value supplier of the field.
+     *
+     * @param field
+     *            the field of the entity
+     * @return the supplier of the random field value or {@code null} if the field should not be filled
+     */
+    private static Supplier<?> valueSupplier(final Field field) {
+        Class<?> fieldType = field.getType();
+        if (isRequiredField(field)) {
+            XmlSchemaType xmlSchemaType = field.getAnnotation(XmlSchemaType.class);
+            if (xmlSchemaType != null) {
+                return xmlSchemaTypeSupplier(field, xmlSchemaType);
+            } else if (isEnumField(field)) {
+                return () -> Any.enumItem(fieldType);
+            }
+            return targetTypeSupplier(field);
+        } else if (fieldType.isPrimitive()) {
+            return primitiveSupplier(fieldType);
+        }
+        return null;
+    }
+
+    private static Supplier<?> xmlSchemaTypeSupplier(Field field, XmlSchemaType xmlSchemaType) {
+        if (StringUtils.equals("string", xmlSchemaType.name())) {
+            return targetTypeSupplier(field);
+        } else if (StringUtils.equals("dateTime", xmlSchemaType.name())) {
+            return Any::timestamp;
+        } else if (StringUtils.equals("date", xmlSchemaType.name())) {
+            return Any::dateTimestamp;
+        }
+        throw new TestException(MessageFormat.format("Not supported XMLSchemaType: [{0}]", xmlSchemaType.name()));
+    }
+
+    /**
+     * Resolve the value supplier through the type of the field.
+     *
+     * @param field
+     *            the current field
+     * @return the supplier of the random field value
+     */
+    private static Supplier<?> targetTypeSupplier(final Field field) {
+        Class<?> targetClass = field.getType();
+        if (targetClass.isArray()) {
+            return arraySupplier(targetClass.getComponentType());
+        } else if (targetClass.isEnum()) {
+            return () -> Any.enumItem(targetClass);
+        } else if (String.class.isAssignableFrom(targetClass)) {
+            return () -> Any.string(MAX_STRING_LENGTH);
+        }
+        throw new TestException(MessageFormat.format("Not supported target type: [{0}]", targetClass.getSimpleName()));
+    }
+
+    /**
+     * Resolve the random array supplier of the component type.
+     *
+     * @param componentType
+     *            the component type of the array field
+     * @return the supplier of the random array
+     */
+    private static Supplier<?> arraySupplier(Class<?> componentType) {
+        if (Boolean.TYPE.equals(componentType)) {
+            return () -> Any.booleanArray(Any.anInt(1, MAX_ARRAY_SIZE));
+        } else if (Byte.TYPE.equals(componentType)) {
+            return () -> Any.byteArray(Any.anInt(1, MAX_ARRAY_SIZE));
+        } else if (Short.TYPE.equals(componentType)) {
+            return () -> Any.shortArray(Any.anInt(1, MAX_ARRAY_SIZE));
+        } else if (Integer.TYPE.equals(componentType)) {
+            return () -> Any.intArray(Any.anInt(1, MAX_ARRAY_SIZE));
+        } else if (Long.TYPE.equals(componentType)) {
+            return () -> Any.longArray(Any.anInt(1, MAX_ARRAY_SIZE));
+        } else if (Float.TYPE.equals(componentType)) {
+            return () -> Any.floatArray(Any.anInt(1, MAX_ARRAY_SIZE));
+        } else if (Double.TYPE.equals(componentType)) {
+            return () -> Any.doubleArray(Any.anInt(1, MAX_ARRAY_SIZE));
+        }
+        throw new TestException(MessageFormat.format("Not supported target array type: [{0}]", componentType.getSimpleName()));
+    }
+
+    /**
+     * Resolve the random value supplier of a primitive type.
+     *
+     * @param fieldType
+     *            the primitive type
+     * @return the supplier of the random (boxed) value
+     */
+    private static Supplier<?> primitiveSupplier(Class<?> fieldType) {
+        if (fieldType.isAssignableFrom(Boolean.TYPE)) {
+            return Any::bool;
+        } else if (fieldType.isAssignableFrom(Byte.TYPE)) {
+            return Any::aByte;
+        } else if (fieldType.isAssignableFrom(Short.TYPE)) {
+            return Any::aShort;
+        } else if (fieldType.isAssignableFrom(Integer.TYPE)) {
+            return Any::anInt;
+        } else if (fieldType.isAssignableFrom(Long.TYPE)) {
+            return Any::aLong;
+        } else if (fieldType.isAssignableFrom(Float.TYPE)) {
+            return Any::aFloat;
+        } else if (fieldType.isAssignableFrom(Double.TYPE)) {
+            return Any::aDouble;
+        }
+        throw new TestException(MessageFormat.format("Unknown primitive type: [{0}].", fieldType.getSimpleName()));
+    }
+
+    /**
+     * Generates the value of a field within the context of the running build.
+     */
+    @FunctionalInterface
+    private interface ValueGenerator {
+
+        /**
+         * @param context
+         *            the context of the running build
+         * @return the value or {@link FillPlan#SKIP}
+         */
+        Object generate(GenerationContext context);
+    }
+
+    /**
+     * One field of the plan: the value generator and the accessor of the field.
+     */
+    private static final class FieldStep {
+
+        private final Class<?> fieldType;
+        private final Class<?> listElementType;
+        private final boolean nestedType;
+        private final FieldAccessor accessor;
+        private final ValueGenerator valueGenerator;
+
+        private FieldStep(Field field, Class<?> listElementType, boolean nestedType, ValueGenerator valueGenerator) {
+            this.fieldType = field.getType();
+            this.listElementType = listElementType;
+            this.nestedType = nestedType;
+            this.accessor = FieldAccessor.of(field);
+            this.valueGenerator = valueGenerator;
+        }
+
+        private void apply(Object entity, GenerationContext context) {
+            Object value = valueGenerator.generate(context);
+            if (value != SKIP) {
+                set(entity, value);
+            }
+        }
+
+        private void set(Object entity, Object value) {
+            accessor.set(entity, value);
+        }
+    }
+
+    /**
+     * Counts the nodes of one estimate. The count of a type on a depth is computed only once, and the counting stops as soon as the total
+     * reaches the limit, so neither the shared nested types nor the deep recursive types are walked repeatedly.
+     */
+    private static final class NodeCounter {
+
+        private final GenerationBudget budget;
+        private final boolean depthLimited;
+        private final Map<NodeKey, Long> counts = new HashMap<>();
+        /**
+         * The types of the enclosing entities, to detect the recursive types when the depth is not limited
+         */
+        private final Set<Class<?>> path = new HashSet<>();
+
+        private NodeCounter(GenerationBudget budget, Class<?> rootType) {
+            this.budget = budget;
+            this.depthLimited = budget.getMaxDepth() != Integer.MAX_VALUE;
+            path.add(rootType);
+        }
+
+        /**
+         * @return the node count of the entity and its subtree, {@code limit} if the count reaches it
+         */
+        private long count(Class<?> type, int depth, long limit) {
+            // without depth limit the count does not depend on the depth
+            NodeKey key = new NodeKey(type, depthLimited ? depth : 0);
+            Long known = counts.get(key);
+            if (known != null) {
+                return Math.min(known, limit);
+            }
+            int listSize = budget.getMaxListSize();
+            long result = 1;
+            for (FieldStep step : of(type).steps) {
+                if (result >= limit) {
+                    return limit;
+                }
+                long remaining = limit - result;
+                if (step.listElementType != null) {
+                    long elementLimit = remaining / listSize + (remaining % listSize == 0 ? 0 : 1);
+                    long elementCount = step.nestedType ? nested(step.listElementType, depth, elementLimit) : 1;
+                    result = saturatedAdd(result, saturatedMultiply(listSize, elementCount));
+                } else if (step.nestedType) {
+                    result = saturatedAdd(result, nested(step.fieldType, depth, remaining));
+                }
+            }
+            if (result >= limit) {
+                return limit;
+            }
+            // only the exact counts are kept, a count reaching the limit ends the whole estimate anyway
+            counts.put(key, result);
+            return result;
+        }
+
+        private long nested(Class<?> type, int depth, long limit) {
+            if (depth >= budget.getMaxDepth()) {
+                return 0;
+            }
+            if (Builder.has(type) || type.isEnum() || type.getAnnotation(XmlType.class) == null) {
+                // registered builders are opaque, counted as one node
+                return 1;
+            }
+            if (depthLimited) {
+                // the depth limit bounds the recursive types too
+                return count(type, depth + 1, limit);
+            }
+            if (!path.add(type)) {
+                return Long.MAX_VALUE;
+            }
+            try {
+                return count(type, depth + 1, limit);
+            } finally {
+                path.remove(type);
+            }
+        }
+    }
+
+    /**
+     * Memo key of {@link NodeCounter}: a type on a depth.
+     */
+    private static final class NodeKey {
+
+        private final Class<?> type;
+        private final int depth;
+
+        private NodeKey(Class<?> type, int depth) {
+            this.type = type;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof NodeKey)) {
+                return false;
+            }
+            NodeKey other = (NodeKey) obj;
+            return type == other.type && depth == other.depth;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + depth;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dto;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import hu.icellmobilsoft.roaster.api.random.RandomScope;
+import hu.icellmobilsoft.roaster.api.random.RandomSource;
+import hu.icellmobilsoft.roaster.api.random.RandomSources;
+
+/**
+ * Spliterator of the lazily generated {@link AnyDto#stream(Class)} elements.
+ * <p>
+ * The spliterator covers the index range {@code [origin, fence)}, splitting halves the range. Every split part resolves its own element
+ * supplier (and so its own builder instance) at the first generated element, so the parts can run on different threads.
+ * <p>
+ * The element of index {@code i} is generated with the {@link RandomSource} derived with index {@code i} from a split of the source of the
+ * thread creating the stream, so with a seeded source the elements are the same regardless of the splits and the threads. The spliterator is
+ * {@link Spliterator#ORDERED ordered}, the encounter order is the index order, so the order sensitive operations of a parallel stream (like
+ * {@link java.util.stream.Stream#limit(long)}) keep the same elements as the sequential stream.
+ *
+ * @param <T>
+ *            the type of the elements
+ */
+final class GeneratingSpliterator<T> implements Spliterator<T> {
+
+    private static final int SIZED_CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+
+    private static final int INFINITE_CHARACTERISTICS = Spliterator.ORDERED | Spliterator.IMMUTABLE;
+
+    private final Supplier<Supplier<T>> supplierFactory;
+    private final RandomSource random;
+    private final int characteristics;
+    private final long fence;
+    private long origin;
+    private Supplier<T> elementSupplier;
+
+    private GeneratingSpliterator(Supplier<Supplier<T>> supplierFactory, RandomSource random, long origin, long fence, int characteristics) {
+        this.supplierFactory = supplierFactory;
+        this.random = random;
+        this.origin = origin;
+        this.fence = fence;
+        this.characteristics = characteristics;
+    }
+
+    /**
+     * @param supplierFactory
+     *            creates the element supplier of a split part
+     * @param size
+     *            the number of the elements
+     * @param <T>
+     *            the type of the elements
+     * @return spliterator of exactly {@code size} elements
+     */
+    static <T> GeneratingSpliterator<T> sized(Supplier<Supplier<T>> supplierFactory, long size) {
+        return range(supplierFactory, RandomSources.current().split(), 0, size);
+    }
+
+    /**
+     * The elements of the range are the same as the elements of the same indexes of a stream started with {@code random}, so a stream can be
+     * generated range by range.
+     *
+     * @param supplierFactory
+     *            creates the element supplier of a split part
+     * @param random
+     *            the source of the whole stream, split from the source of the caller
+     * @param origin
+     *            the first index (inclusive)
+     * @param fence
+     *            the last index (exclusive)
+     * @param <T>
+     *            the type of the elements
+     * @return spliterator of the elements of the index range
+     */
+    static <T> GeneratingSpliterator<T> range(Supplier<Supplier<T>> supplierFactory, RandomSource random, long origin, long fence) {
+        return new GeneratingSpliterator<>(supplierFactory, random, origin, fence, SIZED_CHARACTERISTICS);
+    }
+
+    /**
+     * @param supplierFactory
+     *            creates the element supplier of a split part
+     * @param <T>
+     *            the type of the elements
+     * @return spliterator of infinite elements
+     */
+    static <T> GeneratingSpliterator<T> infinite(Supplier<Supplier<T>> supplierFactory) {
+        return new GeneratingSpliterator<>(supplierFactory, RandomSources.current().split(), 0, Long.MAX_VALUE, INFINITE_CHARACTERISTICS);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (origin >= fence) {
+            return false;
+        }
+        action.accept(generate(elementSupplier(), origin++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Supplier<T> supplier = elementSupplier();
+        for (; origin < fence; ++origin) {
+            action.accept(generate(supplier, origin));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long mid = origin + (fence - origin) / 2;
+        if (mid <= origin) {
+            return null;
+        }
+        GeneratingSpliterator<T> prefix = new GeneratingSpliterator<>(supplierFactory, random, origin, mid, characteristics);
+        origin = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence == Long.MAX_VALUE ? Long.MAX_VALUE : fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    private T generate(Supplier<T> supplier, long index) {
+        try (RandomScope scope = RandomSources.bind(random.derive(index))) {
+            return supplier.get();
+        }
+    }
+
+    private Supplier<T> elementSupplier() {
+        if (elementSupplier == null) {
+            elementSupplier = supplierFactory.get();
+        }
+        return elementSupplier;
+    }
+}
@@ -0,0 +1,118 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dto;
+
+import java.text.MessageFormat;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+
+/**
+ * Size limits of a generated object graph, enforced by the {@link GenericTypeBuilder} across the whole recursive build.
+ * <ul>
+ * <li>{@code maxDepth}: the nested xsd types below this depth are not generated (the root is on depth 0)</li>
+ * <li>{@code maxNodes}: the maximum number of generated objects (the root, the nested xsd types and the list elements)</li>
+ * <li>{@code maxListSize}: the number of the elements of a generated list</li>
+ * </ul>
+ * The {@link #defaults() default} budget limits only the list size, like the former fixed list size.
+ * <p>
+ * The budget is immutable, the {@code with*} methods return a new budget.
+ */
+public final class GenerationBudget {
+
+    /**
+     * Default number of the elements of a generated list
+     */
+    public static final int DEFAULT_MAX_LIST_SIZE = 100;
+
+    private static final GenerationBudget DEFAULTS = new GenerationBudget(Integer.MAX_VALUE, Long.MAX_VALUE, DEFAULT_MAX_LIST_SIZE);
+
+    private final int maxDepth;
+    private final long maxNodes;
+    private final int maxListSize;
+
+    private GenerationBudget(int maxDepth, long maxNodes, int maxListSize) {
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxListSize = maxListSize;
+    }
+
+    /**
+     * @return the default budget: unlimited depth and node count, {@value #DEFAULT_MAX_LIST_SIZE} elements per list
+     */
+    public static GenerationBudget defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param maxDepth
+     *            the maximum depth of the nested xsd types, the root is on depth 0
+     * @return a new budget with the given depth limit
+     */
+    public GenerationBudget withMaxDepth(int maxDepth) {
+        Condition.expected(maxDepth >= 0, "maxDepth should not be negative.");
+        return new GenerationBudget(maxDepth, maxNodes, maxListSize);
+    }
+
+    /**
+     * @param maxNodes
+     *            the maximum number of the generated objects, including the root
+     * @return a new budget with the given node limit
+     */
+    public GenerationBudget withMaxNodes(long maxNodes) {
+        Condition.expected(maxNodes > 0, "maxNodes should be at least one.");
+        return new GenerationBudget(maxDepth, maxNodes, maxListSize);
+    }
+
+    /**
+     * @param maxListSize
+     *            the number of the elements of a generated list
+     * @return a new budget with the given list size
+     */
+    public GenerationBudget withMaxListSize(int maxListSize) {
+        Condition.expected(maxListSize > 0, "maxListSize should be at least one.");
+        return new GenerationBudget(maxDepth, maxNodes, maxListSize);
+    }
+
+    /**
+     * @return the maximum depth of the nested xsd types
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return the maximum number of the generated objects
+     */
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * @return the number of the elements of a generated list
+     */
+    public int getMaxListSize() {
+        return maxListSize;
+    }
+
+    @Override
+    public String toString() {
+        return MessageFormat.format("GenerationBudget[maxDepth={0}, maxNodes={1}, maxListSize={2}]", maxDepth, maxNodes, maxListSize);
+    }
+}
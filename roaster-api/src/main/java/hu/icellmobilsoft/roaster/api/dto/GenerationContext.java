@@ -0,0 +1,213 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dto;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import hu.icellmobilsoft.roaster.api.random.RandomScope;
+import hu.icellmobilsoft.roaster.api.random.RandomSource;
+import hu.icellmobilsoft.roaster.api.random.RandomSources;
+
+/**
+ * State of one recursive {@link GenericTypeBuilder} build: the budget, the current depth and the number of the generated objects.
+ * <p>
+ * The root build opens the context of its thread, the nested builds (through {@link Builder#get(Class)} or list elements) find it and share
+ * it, so the budget is enforced across the whole object graph.
+ * <p>
+ * In parallel builds the sub-trees run as fork/join tasks, every task gets its own copy of the context (with the shared budget and node
+ * counter) for the time it runs. The tasks also get a split of the {@link RandomSource} of the forking thread, taken when the task is
+ * created, so a seeded parallel build generates the same values as long as the tasks are created in the same order.
+ */
+final class GenerationContext {
+
+    private static final ThreadLocal<GenerationContext> CURRENT = new ThreadLocal<>();
+
+    private final GenerationBudget budget;
+    private final AtomicLong nodes;
+    private final ForkJoinPool pool;
+    private int depth;
+
+    private GenerationContext(GenerationBudget budget, AtomicLong nodes, ForkJoinPool pool, int depth) {
+        this.budget = budget;
+        this.nodes = nodes;
+        this.pool = pool;
+        this.depth = depth;
+    }
+
+    /**
+     * @return the context of the running build on the current thread or {@code null}
+     */
+    static GenerationContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Open a new root context on the current thread, the root object is counted as the first node.
+     *
+     * @param budget
+     *            the budget of the build
+     * @param pool
+     *            the pool of the parallel build, {@code null} for a sequential build
+     * @return the new context
+     */
+    static GenerationContext open(GenerationBudget budget, ForkJoinPool pool) {
+        GenerationContext context = new GenerationContext(budget, new AtomicLong(1), pool, 0);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Close the root context of the current thread.
+     */
+    static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the budget of the build
+     */
+    GenerationBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return the pool of the parallel build, {@code null} for a sequential build
+     */
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * @return true if the sub-trees should be built as fork/join tasks
+     */
+    boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * @return the number of the generated objects so far
+     */
+    long getNodeCount() {
+        return nodes.get();
+    }
+
+    /**
+     * @return true if a nested xsd type can be generated below the current depth
+     */
+    boolean canDescend() {
+        return depth < budget.getMaxDepth();
+    }
+
+    /**
+     * Reserve one node of the budget.
+     *
+     * @return false if the node budget is exhausted
+     */
+    boolean tryReserveNode() {
+        if (nodes.incrementAndGet() <= budget.getMaxNodes()) {
+            return true;
+        }
+        nodes.decrementAndGet();
+        return false;
+    }
+
+    /**
+     * Generate a nested value one level deeper.
+     *
+     * @param supplier
+     *            the supplier of the nested value
+     * @param <R>
+     *            the type of the value
+     * @return the nested value
+     */
+    <R> R descend(Supplier<R> supplier) {
+        depth++;
+        try {
+            return supplier.get();
+        } finally {
+            depth--;
+        }
+    }
+
+    /**
+     * Create a task that runs the supplier with a copy of this context.
+     *
+     * @param supplier
+     *            the supplier of the value
+     * @param depthIncrement
+     *            the depth of the task relative to this context
+     * @param <R>
+     *            the type of the value
+     * @return the new, not yet forked task
+     */
+    <R> ForkJoinTask<R> task(Supplier<R> supplier, int depthIncrement) {
+        return new ContextTask<>(new GenerationContext(budget, nodes, pool, depth + depthIncrement), supplier);
+    }
+
+    /**
+     * Fork a nested value one level deeper.
+     *
+     * @param supplier
+     *            the supplier of the nested value
+     * @param <R>
+     *            the type of the value
+     * @return the forked task
+     */
+    <R> ForkJoinTask<R> fork(Supplier<R> supplier) {
+        return task(supplier, 1).fork();
+    }
+
+    /**
+     * Fork/join task running with its own context, the former context of the worker thread is restored after the task.
+     */
+    private static final class ContextTask<R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient GenerationContext context;
+        private final transient Supplier<R> supplier;
+        private final transient RandomSource random;
+
+        private ContextTask(GenerationContext context, Supplier<R> supplier) {
+            this.context = context;
+            this.supplier = supplier;
+            this.random = RandomSources.current().split();
+        }
+
+        @Override
+        protected R compute() {
+            GenerationContext previous = CURRENT.get();
+            CURRENT.set(context);
+            try (RandomScope scope = RandomSources.bind(random)) {
+                return supplier.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        }
+    }
+}
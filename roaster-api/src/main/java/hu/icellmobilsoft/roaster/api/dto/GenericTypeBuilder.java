@@ -19,40 +19,34 @@
  */
 package hu.icellmobilsoft.roaster.api.dto;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.text.MessageFormat;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
-import jakarta.xml.bind.annotation.XmlAttribute;
-import jakarta.xml.bind.annotation.XmlElement;
-import jakarta.xml.bind.annotation.XmlEnum;
-import jakarta.xml.bind.annotation.XmlSchemaType;
 import jakarta.xml.bind.annotation.XmlType;
 
-import org.apache.commons.lang3.StringUtils;
-
-import hu.icellmobilsoft.coffee.tool.utils.date.DateUtil;
-import hu.icellmobilsoft.coffee.tool.utils.date.DateXmlUtil;
-import hu.icellmobilsoft.roaster.api.Any;
 import hu.icellmobilsoft.roaster.api.Condition;
-import hu.icellmobilsoft.roaster.api.TestException;
-import hu.icellmobilsoft.roaster.api.reflect.Setter;
 
 /**
  * Generic class to build a dto object based on the XML annotations.
+ * <p>
+ * The fields to fill are resolved only once per target class into a {@link FillPlan}, so the reflection cost is not paid on every
+ * {@link #build()}.
+ * <p>
+ * The size of the generated object graph (depth, total node count, list sizes) is limited by the {@link GenerationBudget} of the root
+ * builder, the nested builds share the budget of the root. Large graphs can be built in parallel, see {@link BuildMode}.
  *
  * @param <T>
  *            the xsd type
  */
 public class GenericTypeBuilder<T> extends BaseTypeBuilder<T> {
 
-    private static final int MAX_STRING_LENGTH = 30;
+    private GenerationBudget budget = GenerationBudget.defaults();
+
+    private BuildMode buildMode = BuildMode.SEQUENTIAL;
 
-    private static final int MAX_ARRAY_SIZE = 100;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    private volatile long lastNodeCount;
 
     private GenericTypeBuilder(Class<T> targetClass, Supplier<T> createEntity) {
         super(targetClass, createEntity);
@@ -74,145 +68,110 @@ public class GenericTypeBuilder<T> extends BaseTypeBuilder<T> {
         return new GenericTypeBuilder<>(targetClass, createEntity);
     }
 
-    private static <E> List<Field> getAllFields(Class<E> clazz) {
-        List<Field> result = new ArrayList<>();
-        Class<?> tmp = clazz;
-        while (tmp != Object.class) {
-            result.addAll(Arrays.asList(tmp.getDeclaredFields()));
-            tmp = tmp.getSuperclass();
-        }
-        return result;
-    }
-
     /**
-     * @param field
-     *            the field of the entity
-     * @return true if the field is annotated with {@code required=true}
+     * Set the budget of the builds started by this builder. If the builder runs nested in an other build, the budget of the root build is
+     * used.
+     *
+     * @param budget
+     *            the generation budget
+     * @return the current builder
      */
-    private static boolean isRequiredField(final Field field) {
-        XmlElement xmlElement = field.getAnnotation(XmlElement.class);
-        XmlAttribute xmlAttribute = field.getAnnotation(XmlAttribute.class);
-        return (xmlElement != null && xmlElement.required()) || (xmlAttribute != null && xmlAttribute.required());
+    public GenericTypeBuilder<T> withBudget(GenerationBudget budget) {
+        Condition.notNull(budget, "budget should not be null.");
+        this.budget = budget;
+        return this;
     }
 
     /**
-     * @param field
-     *            the field of the entity
-     * @return true if the type of the field is an enumeration
+     * Set the execution mode of the builds started by this builder. The parallel modes run on the {@link ForkJoinPool#commonPool() common
+     * pool}. The build mode decides only the shape of the graph, the values are reproducible only with a seeded random source (see
+     * {@link BuildMode#DETERMINISTIC}).
+     *
+     * @param buildMode
+     *            the build mode
+     * @return the current builder
      */
-    private static boolean isEnumField(final Field field) {
-        return field.getType().getAnnotation(XmlEnum.class) != null;
+    public GenericTypeBuilder<T> withBuildMode(BuildMode buildMode) {
+        return withBuildMode(buildMode, ForkJoinPool.commonPool());
     }
 
-    @Override
-    protected void fillEntity(T entity) {
-        for (Field field : getAllFields(getTargetClass())) {
-            if (isRequiredField(field)) {
-                XmlSchemaType xmlSchemaType = field.getAnnotation(XmlSchemaType.class);
-                if (xmlSchemaType != null) {
-                    handleXmlSchemaType(entity, field, xmlSchemaType);
-                } else if (isEnumField(field)) {
-                    Setter.setValue(entity, field, Any.of(field.getType()));
-                } else if (field.getType().getAnnotation(XmlType.class) != null) {
-                    IBaseBuilder<?> builder = Builder.get(field.getType());
-                    Setter.setValue(entity, field, builder.build());
-                } else {
-                    setFieldValueThroughTargetType(entity, field);
-                }
-            } else if (field.getType().isPrimitive()) {
-                Setter.setPrimitiveValue(entity, field);
-            }
-        }
+    /**
+     * Set the execution mode of the builds started by this builder. If the builder runs nested in an other build, the mode of the root build
+     * is used.
+     *
+     * @param buildMode
+     *            the build mode
+     * @param pool
+     *            the pool of the parallel modes
+     * @return the current builder
+     */
+    public GenericTypeBuilder<T> withBuildMode(BuildMode buildMode, ForkJoinPool pool) {
+        Condition.notNull(buildMode, "buildMode should not be null.");
+        Condition.notNull(pool, "pool should not be null.");
+        this.buildMode = buildMode;
+        this.pool = pool;
+        return this;
     }
 
-    private void handleXmlSchemaType(T entity, Field field, XmlSchemaType xmlSchemaType) {
-        if (StringUtils.equals("string", xmlSchemaType.name())) {
-            setFieldValueThroughTargetType(entity, field);
-        } else if (StringUtils.equals("dateTime", xmlSchemaType.name())) {
-            Setter.setValue(entity, field, DateXmlUtil.toXMLGregorianCalendar(Any.time()));
-
-            Setter.setValue(entity, field, DateXmlUtil.toXMLGregorianCalendar(Any.time()));
-        } else if (StringUtils.equals("date", xmlSchemaType.name())) {
-            Setter.setValue(entity, field, DateXmlUtil.toXMLGregorianCalendar(DateUtil.clearTimePart(Any.time())));
-        } else {
-            throw new TestException(MessageFormat.format("Not supported XMLSchemaType: [{0}]", xmlSchemaType.name()));
-        }
+    /**
+     * @return the build mode of the builder
+     */
+    public BuildMode getBuildMode() {
+        return buildMode;
     }
 
     /**
-     * Set the field value through the type of the field.
-     *
-     * @param entity
-     *            the entity object
-     * @param field
-     *            the current field to set
-     * @param <T>
-     *            the type of the entity
+     * @return the generation budget of the builder
      */
-    private static <T> void setFieldValueThroughTargetType(final T entity, final Field field) {
-        Class<?> targetClass = field.getType();
-        if (List.class.isAssignableFrom(targetClass)) {
-            fillListField(entity, field);
-        } else if (targetClass.isArray()) {
-            fillArrayField(entity, field);
-        } else if (targetClass.isEnum()) {
-            Setter.setValue(entity, field, Any.enumItem(targetClass));
-        } else if (String.class.isAssignableFrom(targetClass)) {
-            Setter.setValue(entity, field, Any.string(MAX_STRING_LENGTH));
-        } else if (targetClass.getAnnotation(XmlType.class) != null) {
-            Setter.setValue(entity, field, Builder.get(targetClass).build());
-        } else {
-            throw new TestException(MessageFormat.format("Not supported target type: [{0}]", targetClass.getSimpleName()));
-        }
+    public GenerationBudget getBudget() {
+        return budget;
     }
 
     /**
-     * Fill the list fields with a randomly generated list
+     * Estimate the number of the objects of a generated graph (the root, the nested xsd types and the list elements) within the budget. The
+     * types with a registered builder are counted as one node.
      *
-     * @param entity
-     *            the entity object
-     * @param field
-     *            the current field to set
-     * @param <T>
-     *            the type of the entity
+     * @return the estimated node count, at most {@link GenerationBudget#getMaxNodes()}
      */
-    private static <T> void fillListField(final T entity, final Field field) {
-        ParameterizedType listType = (ParameterizedType) field.getGenericType();
-        Class<?> listTypeClass = (Class<?>) listType.getActualTypeArguments()[0];
-        Setter.setValue(entity, field, AnyDto.array(listTypeClass, MAX_ARRAY_SIZE));
+    public long estimateNodeCount() {
+        return FillPlan.estimateNodeCount(getTargetClass(), budget);
     }
 
     /**
-     * Fill the array fields with a randomly generated array.
-     *
-     * @param entity
-     *            the entity object
-     * 
-     * @param field
-     *            the current field to set
-     * @param <T>
-     *            the type of the entity
+     * @return the number of the objects generated by the last root build of this builder
      */
-    private static <T> void fillArrayField(final T entity, final Field field) {
-        if (Boolean.TYPE.equals(field.getType().getComponentType())) {
-            Setter.setValue(entity, field, Any.booleanArray(Any.anInt(1, MAX_ARRAY_SIZE)));
-        } else if (Byte.TYPE.equals(field.getType().getComponentType())) {
-            Setter.setValue(entity, field, Any.byteArray(Any.anInt(1, MAX_ARRAY_SIZE)));
-        } else if (Short.TYPE.equals(field.getType().getComponentType())) {
-            Setter.setValue(entity, field, Any.shortArray(Any.anInt(1, MAX_ARRAY_SIZE)));
-        } else if (Integer.TYPE.equals(field.getType().getComponentType())) {
-            Setter.setValue(entity, field, Any.intArray(Any.anInt(1, MAX_ARRAY_SIZE)));
-        } else if (Long.TYPE.equals(field.getType().getComponentType())) {
-            Setter.setValue(entity, field, Any.longArray(Any.anInt(1, MAX_ARRAY_SIZE)));
-        } else if (Float.TYPE.equals(field.getType().getComponentType())) {
-            Setter.setValue(entity, field, Any.floatArray(Any.anInt(1, MAX_ARRAY_SIZE)));
-        } else if (Double.TYPE.equals(field.getType().getComponentType())) {
-            Setter.setValue(entity, field, Any.doubleArray(Any.anInt(1, MAX_ARRAY_SIZE)));
-        } else {
-            throw new TestException(
-                    MessageFormat.format("Not supported target array type: [{0}]", field.getType().getComponentType().getSimpleName()));
-        }
+    public long getLastNodeCount() {
+        return lastNodeCount;
+    }
 
+    @Override
+    protected void fillEntity(T entity) {
+        FillPlan plan = FillPlan.of(getTargetClass());
+        GenerationContext context = GenerationContext.current();
+        if (context != null) {
+            plan.fill(entity, context);
+            return;
+        }
+        context = GenerationContext.open(budget, parallelPool());
+        try {
+            if (context.isParallel()) {
+                context.getPool().invoke(context.task(() -> {
+                    plan.fill(entity, GenerationContext.current());
+                    return null;
+                }, 0));
+            } else {
+                plan.fill(entity, context);
+            }
+        } finally {
+            lastNodeCount = context.getNodeCount();
+            GenerationContext.close();
+        }
     }
 
+    private ForkJoinPool parallelPool() {
+        if (buildMode == BuildMode.SEQUENTIAL || (buildMode == BuildMode.DETERMINISTIC && budget.getMaxNodes() != Long.MAX_VALUE)) {
+            return null;
+        }
+        return pool;
+    }
 }
@@ -0,0 +1,249 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.id;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+import hu.icellmobilsoft.roaster.api.InvalidConfigException;
+
+/**
+ * Lock-free generator of cluster unique ids (Snowflake layout), for seeding the same database from many threads and JVMs.
+ * <p>
+ * An id is a positive {@code long}: {@value #TIMESTAMP_BITS} bits of milliseconds since {@link #EPOCH_MILLIS}, {@value #NODE_BITS} bits of
+ * node id and {@value #SEQUENCE_BITS} bits of sequence. The ids of one generator are strictly increasing. If more than 4096 ids are
+ * requested in a millisecond (or the clock goes backwards), the generator borrows the following milliseconds instead of waiting, so the
+ * timestamp part can run ahead of the clock under heavy load.
+ * <p>
+ * The ids are unique across the JVMs as long as the node ids differ: set the node id with the {@value #NODE_PROPERTY} system property
+ * ({@code 0} - {@value #MAX_NODE}), otherwise it is derived from the host name and the process id, which can collide.
+ * <p>
+ * The string form ({@link #nextXId()}, {@link #toXId(long)}) is {@value #ID_LENGTH} characters of upper case base36, left padded with
+ * {@code 0}, so the strings sort in the same order as the ids.
+ *
+ * @since 2.1.0
+ */
+public final class IdGenerator {
+
+    /**
+     * System property of the node id of the default generator
+     */
+    public static final String NODE_PROPERTY = "roaster.id.node";
+
+    /**
+     * Bits of the timestamp part
+     */
+    public static final int TIMESTAMP_BITS = 41;
+
+    /**
+     * Bits of the node id
+     */
+    public static final int NODE_BITS = 10;
+
+    /**
+     * Bits of the sequence
+     */
+    public static final int SEQUENCE_BITS = 12;
+
+    /**
+     * The greatest node id
+     */
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    /**
+     * Start of the timestamp part: 2013-01-01T00:00:00Z (the epoch of the coffee {@code RandomUtil} ids)
+     */
+    public static final long EPOCH_MILLIS = 1_356_998_400_000L;
+
+    /**
+     * Length of the string form of the ids
+     */
+    public static final int ID_LENGTH = 16;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+    private static final int RADIX = 36;
+
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private static final IdGenerator DEFAULT = new IdGenerator(defaultNode());
+
+    private final long nodeBits;
+
+    /**
+     * The last issued timestamp and sequence ({@code timestamp << SEQUENCE_BITS | sequence})
+     */
+    private final AtomicLong last = new AtomicLong();
+
+    /**
+     * @param node
+     *            the node id, between {@code 0} and {@value #MAX_NODE}
+     */
+    public IdGenerator(int node) {
+        Condition.expected(node >= 0 && node <= MAX_NODE, "node should be between 0 and " + MAX_NODE + ".");
+        this.nodeBits = (long) node << SEQUENCE_BITS;
+    }
+
+    /**
+     * @return the generator of the JVM, with the node id of the {@value #NODE_PROPERTY} system property or of the host and the process
+     */
+    public static IdGenerator getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return the node id of this generator
+     */
+    public int getNode() {
+        return (int) (nodeBits >>> SEQUENCE_BITS);
+    }
+
+    /**
+     * Generate the next id, without locking and allocation.
+     *
+     * @return the next id
+     */
+    public long nextId() {
+        return compose(advance(1));
+    }
+
+    /**
+     * @return the string form of the next id
+     * @see #toXId(long)
+     */
+    public String nextXId() {
+        return toXId(nextId());
+    }
+
+    /**
+     * Reserve {@code count} consecutive ids with one atomic operation, for example for the batch inserts of a loader thread.
+     *
+     * @param count
+     *            the number of the ids
+     * @return the reserved range
+     */
+    public IdRange reserve(int count) {
+        Condition.expected(count > 0, "count should be greater than zero!");
+        return new IdRange(this, advance(count) - count + 1, count);
+    }
+
+    /**
+     * Move the last issued timestamp and sequence forward by {@code count}, at least to the beginning of the current millisecond.
+     *
+     * @param count
+     *            the number of the issued ids
+     * @return the last issued timestamp and sequence
+     */
+    private long advance(int count) {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        Condition.expected(now >= 0 && now <= MAX_TIMESTAMP, "The clock is out of the range of the id timestamp.");
+        long start = now << SEQUENCE_BITS;
+        while (true) {
+            long previous = last.get();
+            long first = Math.max(previous + 1, start);
+            long next = first + count - 1;
+            if (last.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * @param timestampAndSequence
+     *            the timestamp and the sequence ({@code timestamp << SEQUENCE_BITS | sequence})
+     * @return the id of this node
+     */
+    long compose(long timestampAndSequence) {
+        long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (timestampAndSequence & SEQUENCE_MASK);
+    }
+
+    /**
+     * @param id
+     *            the id
+     * @return the {@value #ID_LENGTH} character, upper case base36 form of the id
+     */
+    public static String toXId(long id) {
+        Condition.expected(id >= 0, "id should not be negative.");
+        char[] chars = new char[ID_LENGTH];
+        long value = id;
+        for (int i = ID_LENGTH - 1; i >= 0; --i) {
+            chars[i] = DIGITS[(int) (value % RADIX)];
+            value /= RADIX;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @param id
+     *            the id
+     * @return the epoch millis of the timestamp part of the id
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    /**
+     * @param id
+     *            the id
+     * @return the node id part of the id
+     */
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE);
+    }
+
+    private static int defaultNode() {
+        String value = System.getProperty(NODE_PROPERTY);
+        if (value != null && !value.isBlank()) {
+            int node;
+            try {
+                node = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new InvalidConfigException("The " + NODE_PROPERTY + " system property should be an integer, but was: [" + value + "]", e);
+            }
+            if (node < 0 || node > MAX_NODE) {
+                throw new InvalidConfigException("The " + NODE_PROPERTY + " system property should be between 0 and " + MAX_NODE + ", but was: [" + node + "]");
+            }
+            return node;
+        }
+        long hash = hostName().hashCode() * 0x9e3779b97f4a7c15L + ProcessHandle.current().pid();
+        hash = (hash ^ (hash >>> 32)) * 0xbf58476d1ce4e5b9L;
+        return (int) ((hash ^ (hash >>> 29)) & MAX_NODE);
+    }
+
+    private static String hostName() {
+        String hostName = System.getenv("HOSTNAME");
+        if (hostName == null) {
+            hostName = System.getenv("COMPUTERNAME");
+        }
+        if (hostName == null) {
+            try {
+                hostName = InetAddress.getLocalHost().getHostName();
+            } catch (UnknownHostException e) {
+                hostName = "";
+            }
+        }
+        return hostName;
+    }
+}
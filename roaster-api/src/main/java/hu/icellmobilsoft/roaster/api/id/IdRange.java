@@ -0,0 +1,78 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.id;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+
+/**
+ * Consecutive ids reserved by {@link IdGenerator#reserve(int)}. The range is immutable, the ids can be taken by index from any thread.
+ *
+ * @since 2.1.0
+ */
+public final class IdRange {
+
+    private final IdGenerator generator;
+    private final long firstTimestampAndSequence;
+    private final int size;
+
+    IdRange(IdGenerator generator, long firstTimestampAndSequence, int size) {
+        this.generator = generator;
+        this.firstTimestampAndSequence = firstTimestampAndSequence;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of the ids
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index
+     *            the index of the id in the range
+     * @return the id, the ids of the range are increasing by index
+     */
+    public long get(int index) {
+        Condition.expected(index >= 0 && index < size, "index should be between 0 and the size of the range.");
+        return generator.compose(firstTimestampAndSequence + index);
+    }
+
+    /**
+     * @param index
+     *            the index of the id in the range
+     * @return the string form of the id
+     * @see IdGenerator#toXId(long)
+     */
+    public String getXId(int index) {
+        return IdGenerator.toXId(get(index));
+    }
+
+    /**
+     * @return all ids of the range
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        for (int i = 0; i < size; ++i) {
+            result[i] = generator.compose(firstTimestampAndSequence + i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+
+/**
+ * Walker's alias table (Vose's construction) of a discrete distribution: an index is drawn in constant time, with one bounded
+ * {@code int} and one {@code double}, whatever the weights are.
+ *
+ * @since 2.1.0
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights
+     *            the relative weight of the indexes, not negative, at least one of them is positive
+     */
+    public AliasTable(double[] weights) {
+        Condition.notNull(weights, "weights should not be null.");
+        int size = weights.length;
+        Condition.expected(size > 0, "weights should not be empty.");
+        double sum = 0;
+        for (double weight : weights) {
+            Condition.expected(weight >= 0 && Double.isFinite(weight), "weights should be finite, not negative numbers.");
+            sum += weight;
+        }
+        Condition.expected(sum > 0, "at least one weight should be positive.");
+
+        probability = new double[size];
+        alias = new int[size];
+        double[] scaled = new double[size];
+        // worklists of the under- and overfull columns, small ones from the front, large ones from the back
+        int[] work = new int[size];
+        int small = 0;
+        int large = size;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / sum;
+            if (scaled[i] < 1) {
+                work[small++] = i;
+            } else {
+                work[--large] = i;
+            }
+        }
+        while (small > 0 && large < size) {
+            int less = work[--small];
+            int more = work[large++];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                work[small++] = more;
+            } else {
+                work[--large] = more;
+            }
+        }
+        // the remaining columns are full, up to rounding errors
+        while (large < size) {
+            probability[work[large++]] = 1;
+        }
+        while (small > 0) {
+            probability[work[--small]] = 1;
+        }
+    }
+
+    /**
+     * @return the number of the indexes
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * @param random
+     *            the source of the randomness
+     * @return an index drawn with the probability of its weight
+     */
+    public int sample(RandomSource random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+}
@@ -0,0 +1,51 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+/**
+ * Distribution of the selected index over the items of a selection ({@code Any.of}, {@code Any.enumItem}, {@code Any.fieldValue}, word
+ * dictionaries...), to generate skewed data like the production traffic instead of uniformly spread data.
+ * <p>
+ * The index {@code 0} is the first item of the selection, the ranked distributions ({@link Distributions#zipf(double)},
+ * {@link Distributions#hotspot(double, double)}) prefer the first items, {@link Distributions#latest(double)} the last ones. The
+ * implementations are thread safe and sample in constant time, the tables they need are computed once per selection size.
+ *
+ * @since 2.1.0
+ */
+public interface Distribution {
+
+    /**
+     * @param size
+     *            the number of the items, at least {@code 1}
+     * @param random
+     *            the source of the randomness
+     * @return the index of the selected item, between {@code 0} (inclusive) and {@code size} (exclusive)
+     */
+    int sample(int size, RandomSource random);
+
+    /**
+     * @param size
+     *            the number of the items, at least {@code 1}
+     * @return the index of the selected item drawn from {@link RandomSources#current()}
+     */
+    default int sample(int size) {
+        return sample(size, RandomSources.current());
+    }
+}
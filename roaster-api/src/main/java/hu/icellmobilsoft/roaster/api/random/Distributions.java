@@ -0,0 +1,137 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import java.text.MessageFormat;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+
+/**
+ * Factory of the built-in {@link Distribution}s. The returned distributions are immutable, keep them in a field: the tables of the
+ * skewed distributions are built at the first sample of every selection size.
+ *
+ * @since 2.1.0
+ */
+public final class Distributions {
+
+    private static final Distribution UNIFORM = new Distribution() {
+        @Override
+        public int sample(int size, RandomSource random) {
+            return random.nextInt(size);
+        }
+
+        @Override
+        public String toString() {
+            return "uniform";
+        }
+    };
+
+    private Distributions() {
+    }
+
+    /**
+     * @return every item is selected with the same probability (the default of every selection)
+     */
+    public static Distribution uniform() {
+        return UNIFORM;
+    }
+
+    /**
+     * Zipf's law: the item of rank {@code k} (counted from {@code 1}) is selected with probability proportional to {@code 1 / k^exponent}.
+     * Exponent {@code 1} is the classic Zipf distribution of natural data (popular keys, words, cities), {@code 0} is uniform.
+     *
+     * @param exponent
+     *            the exponent, finite and not negative
+     * @return the Zipf distribution preferring the first items
+     */
+    public static Distribution zipf(double exponent) {
+        Condition.expected(exponent >= 0 && Double.isFinite(exponent), "exponent should be a finite, not negative number.");
+        if (exponent == 0) {
+            return UNIFORM;
+        }
+        return new WeightedDistribution(MessageFormat.format("zipf({0})", exponent), (index, size) -> 1 / Math.pow(index + 1, exponent));
+    }
+
+    /**
+     * Zipf distribution over the reverse order: the last item is the most frequent one, like the recently inserted records of a table.
+     *
+     * @param exponent
+     *            the exponent, finite and not negative
+     * @return the Zipf distribution preferring the last items
+     */
+    public static Distribution latest(double exponent) {
+        Condition.expected(exponent >= 0 && Double.isFinite(exponent), "exponent should be a finite, not negative number.");
+        if (exponent == 0) {
+            return UNIFORM;
+        }
+        return new WeightedDistribution(MessageFormat.format("latest({0})", exponent),
+                (index, size) -> 1 / Math.pow(size - index, exponent));
+    }
+
+    /**
+     * Hot set of the first items: {@code hotSetFraction} of the items get {@code hotOperationFraction} of the selections, e.g.
+     * {@code hotspot(0.2, 0.8)} is the 80/20 rule. Both parts are uniform inside.
+     *
+     * @param hotSetFraction
+     *            the part of the items in the hot set, between {@code 0} and {@code 1} (the hot set has at least one item)
+     * @param hotOperationFraction
+     *            the part of the selections from the hot set, between {@code 0} and {@code 1}
+     * @return the hotspot distribution
+     */
+    public static Distribution hotspot(double hotSetFraction, double hotOperationFraction) {
+        Condition.expected(hotSetFraction >= 0 && hotSetFraction <= 1, "hotSetFraction should be between 0 and 1.");
+        Condition.expected(hotOperationFraction >= 0 && hotOperationFraction <= 1, "hotOperationFraction should be between 0 and 1.");
+        return new Distribution() {
+            @Override
+            public int sample(int size, RandomSource random) {
+                int hot = Math.max(1, (int) (size * hotSetFraction));
+                if (hot >= size) {
+                    return random.nextInt(size);
+                }
+                return random.nextDouble() < hotOperationFraction ? random.nextInt(hot) : hot + random.nextInt(size - hot);
+            }
+
+            @Override
+            public String toString() {
+                return MessageFormat.format("hotspot({0}, {1})", hotSetFraction, hotOperationFraction);
+            }
+        };
+    }
+
+    /**
+     * Discretized normal distribution over the items, truncated to the selection. The parameters are relative to the selection, e.g.
+     * {@code normal(0.5, 0.1)} prefers the middle items, two thirds of the selections fall into the middle fifth.
+     *
+     * @param mean
+     *            the mean, relative to the size of the selection ({@code 0} the first, {@code 1} the end of the last item)
+     * @param standardDeviation
+     *            the standard deviation, relative to the size of the selection, positive
+     * @return the normal distribution
+     */
+    public static Distribution normal(double mean, double standardDeviation) {
+        Condition.expected(Double.isFinite(mean), "mean should be a finite number.");
+        Condition.expected(standardDeviation > 0 && Double.isFinite(standardDeviation), "standardDeviation should be a finite, positive number.");
+        return new WeightedDistribution(MessageFormat.format("normal({0}, {1})", mean, standardDeviation), (index, size) -> {
+            double z = ((index + 0.5) / size - mean) / standardDeviation;
+            // far tails underflow to 0, the minimal weight keeps at least one item selectable
+            return Math.max(Math.exp(-0.5 * z * z), Double.MIN_NORMAL);
+        });
+    }
+}
@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import java.util.OptionalLong;
+
+/**
+ * A {@link RandomSource} bound to the current thread by {@link RandomSources#open(long)} or {@link RandomSources#bind(RandomSource)}. Closing
+ * the scope restores the former source of the thread, so the scopes have to be closed on the same thread in reverse order (preferably with
+ * try-with-resources).
+ *
+ * @since 2.1.0
+ */
+public final class RandomScope implements AutoCloseable {
+
+    private final RandomSource source;
+    private final OptionalLong seed;
+    private final RandomScope previous;
+    private final boolean bound;
+
+    RandomScope(RandomSource source, OptionalLong seed, RandomScope previous, boolean bound) {
+        this.source = source;
+        this.seed = seed;
+        this.previous = previous;
+        this.bound = bound;
+    }
+
+    /**
+     * @return the source of the scope
+     */
+    public RandomSource getSource() {
+        return source;
+    }
+
+    /**
+     * @return the seed of the scope, or of the enclosing seeded scope or the global seed at the time of binding
+     */
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    RandomScope getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Restore the former source of the thread.
+     */
+    @Override
+    public void close() {
+        if (bound) {
+            RandomSources.unbind(this);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit 5 extension running every test method with its own seeded {@link RandomSource} and publishing the seed as the
+ * {@value RandomSources#SEED_PROPERTY} report entry.
+ * <p>
+ * The seed is the global seed (see {@link RandomSources#SEED_PROPERTY}) if it is set, otherwise a new random seed per test. A failed test
+ * can be replayed by running it with {@code -Droaster.random.seed=<reported seed>}. The source is bound to the thread running the test, the
+ * data generated on other threads is reproducible only through the parallel generators of the api (see {@link RandomSources}).
+ *
+ * <pre>
+ * &#64;ExtendWith(RandomSeedExtension.class)
+ * class MyTest {
+ * </pre>
+ *
+ * @since 2.1.0
+ */
+public class RandomSeedExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RandomSeedExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        long seed = RandomSources.seed().orElseGet(() -> ThreadLocalRandom.current().nextLong());
+        context.getStore(NAMESPACE).put(RandomScope.class, RandomSources.open(seed));
+        context.publishReportEntry(RandomSources.SEED_PROPERTY, Long.toString(seed));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        RandomScope scope = context.getStore(NAMESPACE).remove(RandomScope.class, RandomScope.class);
+        if (scope != null) {
+            scope.close();
+        }
+    }
+}
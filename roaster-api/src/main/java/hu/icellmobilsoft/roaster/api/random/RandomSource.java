@@ -0,0 +1,193 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+/**
+ * Source of the pseudo random values of the {@code Any}/{@code AnyDto} generators.
+ * <p>
+ * An implementation has to provide {@link #nextLong()}, {@link #split()} and {@link #derive(long)}, every other value is computed from
+ * {@link #nextLong()} by default (the bounded methods follow the algorithms of {@link java.util.SplittableRandom}). The instances are not
+ * required to be thread safe, a source is used only by the thread that obtained it from {@link RandomSources#current()}.
+ *
+ * @since 2.1.0
+ */
+public interface RandomSource {
+
+    /**
+     * @return a pseudo random long
+     */
+    long nextLong();
+
+    /**
+     * Create a new, independent source and advance this source. A seeded source splits deterministically: the same seed and the same
+     * sequence of calls give the same split sources.
+     *
+     * @return the new source
+     */
+    RandomSource split();
+
+    /**
+     * Create the source of the {@code index}-th element of a bulk generation without advancing this source. A seeded source derives
+     * deterministically: the same source state and {@code index} always give the same source, independently of the thread and the order of
+     * the calls.
+     *
+     * @param index
+     *            the index of the element (or block) to generate
+     * @return the source of the element
+     */
+    RandomSource derive(long index);
+
+    /**
+     * @return a pseudo random integer
+     */
+    default int nextInt() {
+        return (int) (nextLong() >>> Integer.SIZE);
+    }
+
+    /**
+     * @param bound
+     *            the upper bound (exclusive), must be positive
+     * @return a pseudo random integer between 0 (inclusive) and {@code bound} (exclusive)
+     * @throws IllegalArgumentException
+     *             if {@code bound} is not positive
+     */
+    default int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int r = nextInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = nextInt() >>> 1) {
+            // reject the values of the incomplete last range
+        }
+        return r;
+    }
+
+    /**
+     * @param origin
+     *            the least value returned
+     * @param bound
+     *            the upper bound (exclusive)
+     * @return a pseudo random integer between {@code origin} (inclusive) and {@code bound} (exclusive)
+     * @throws IllegalArgumentException
+     *             if {@code origin} is greater than or equal to {@code bound}
+     */
+    default int nextInt(int origin, int bound) {
+        if (origin >= bound) {
+            throw new IllegalArgumentException("bound must be greater than origin");
+        }
+        int n = bound - origin;
+        if (n > 0) {
+            return nextInt(n) + origin;
+        }
+        int r;
+        do {
+            r = nextInt();
+        } while (r < origin || r >= bound);
+        return r;
+    }
+
+    /**
+     * @param bound
+     *            the upper bound (exclusive), must be positive
+     * @return a pseudo random long between 0 (inclusive) and {@code bound} (exclusive)
+     * @throws IllegalArgumentException
+     *             if {@code bound} is not positive
+     */
+    default long nextLong(long bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        long r = nextLong();
+        long m = bound - 1;
+        if ((bound & m) == 0L) {
+            return r & m;
+        }
+        for (long u = r >>> 1; u + m - (r = u % bound) < 0L; u = nextLong() >>> 1) {
+            // reject the values of the incomplete last range
+        }
+        return r;
+    }
+
+    /**
+     * @param origin
+     *            the least value returned
+     * @param bound
+     *            the upper bound (exclusive)
+     * @return a pseudo random long between {@code origin} (inclusive) and {@code bound} (exclusive)
+     * @throws IllegalArgumentException
+     *             if {@code origin} is greater than or equal to {@code bound}
+     */
+    default long nextLong(long origin, long bound) {
+        if (origin >= bound) {
+            throw new IllegalArgumentException("bound must be greater than origin");
+        }
+        long n = bound - origin;
+        if (n > 0) {
+            return nextLong(n) + origin;
+        }
+        long r;
+        do {
+            r = nextLong();
+        } while (r < origin || r >= bound);
+        return r;
+    }
+
+    /**
+     * @return a pseudo random boolean
+     */
+    default boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * @return a pseudo random float between 0 (inclusive) and 1 (exclusive)
+     */
+    default float nextFloat() {
+        return (nextInt() >>> 8) * 0x1.0p-24f;
+    }
+
+    /**
+     * @return a pseudo random double between 0 (inclusive) and 1 (exclusive)
+     */
+    default double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * @param origin
+     *            the least value returned
+     * @param bound
+     *            the upper bound (exclusive)
+     * @return a pseudo random double between {@code origin} (inclusive) and {@code bound} (exclusive)
+     * @throws IllegalArgumentException
+     *             if {@code origin} is greater than or equal to {@code bound}
+     */
+    default double nextDouble(double origin, double bound) {
+        if (!(origin < bound)) {
+            throw new IllegalArgumentException("bound must be greater than origin");
+        }
+        double r = nextDouble() * (bound - origin) + origin;
+        return r < bound ? r : Math.nextDown(bound);
+    }
+}
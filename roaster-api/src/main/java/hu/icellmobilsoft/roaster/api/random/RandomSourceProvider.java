@@ -0,0 +1,39 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+/**
+ * Service provider interface of the seeded {@link RandomSource} implementation.
+ * <p>
+ * The implementation is loaded with {@link java.util.ServiceLoader} (registered in
+ * {@code META-INF/services/hu.icellmobilsoft.roaster.api.random.RandomSourceProvider}), the first provider found is used. Without a provider
+ * the seeded sources are {@link SplittableRandomSource} instances.
+ *
+ * @since 2.1.0
+ */
+public interface RandomSourceProvider {
+
+    /**
+     * @param seed
+     *            the seed
+     * @return a new source, the same seed has to give the same sequence of values
+     */
+    RandomSource create(long seed);
+}
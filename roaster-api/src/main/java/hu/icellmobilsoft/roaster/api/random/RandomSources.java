@@ -0,0 +1,241 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import java.util.Iterator;
+import java.util.OptionalLong;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+import hu.icellmobilsoft.roaster.api.InvalidConfigException;
+
+/**
+ * Entry point of the random values of the {@code Any}/{@code AnyDto} generators.
+ * <p>
+ * By default every thread uses its {@link java.util.concurrent.ThreadLocalRandom}. A seed makes the generated data reproducible:
+ * <ul>
+ * <li>globally, with the {@value #SEED_PROPERTY} system property or {@link #setSeed(long)}: every thread gets its own source derived from the
+ * seed in the order the threads first generate a value (so only the single threaded runs replay exactly),</li>
+ * <li>for a block of code, with {@link #open(long)} or {@link #withSeed(long, Supplier)}: the source is bound to the current thread.</li>
+ * </ul>
+ * The parallel generators split or derive the source of their caller per element, block or task, so with a seed their result is the same
+ * as the sequential result, independently of the threads: the parallel {@code Any} arrays and buffers, {@code AnyDto.stream} (through the
+ * order preserving stream operations, an unordered operation like {@code findAny} may pick any element), the parallel
+ * {@code AnyDto.uniqueList} and the {@code GenericTypeBuilder} in {@code DETERMINISTIC} mode. In {@code PARALLEL} mode the sub-trees race for
+ * a limited node budget, so only the builds without node limit are reproducible.
+ * The seeded sources are created by the {@link RandomSourceProvider} found on the classpath, or are {@link SplittableRandomSource}s. The
+ * seed of the running generation is reported by {@link #seed()}.
+ *
+ * @since 2.1.0
+ */
+public final class RandomSources {
+
+    /**
+     * System property of the global seed
+     */
+    public static final String SEED_PROPERTY = "roaster.random.seed";
+
+    private static final ThreadLocal<RandomScope> BOUND = new ThreadLocal<>();
+
+    private static final ThreadLocal<ThreadSource> THREAD_SOURCE = new ThreadLocal<>();
+
+    private static final RandomSourceProvider PROVIDER = loadProvider();
+
+    /**
+     * Set once any scope has been bound, until then {@link #current()} does not have to look at the bound scopes.
+     */
+    private static volatile boolean bindingUsed;
+
+    private static volatile GlobalSeed globalSeed = readSeedProperty();
+
+    private RandomSources() {
+    }
+
+    /**
+     * @return the source of the current thread: the source of the innermost open scope, the thread source of the global seed or the
+     *         unseeded default
+     */
+    public static RandomSource current() {
+        if (bindingUsed) {
+            RandomScope scope = BOUND.get();
+            if (scope != null) {
+                return scope.getSource();
+            }
+        }
+        GlobalSeed global = globalSeed;
+        return global == null ? ThreadLocalRandomSource.INSTANCE : global.threadSource();
+    }
+
+    /**
+     * @return the seed of the innermost open scope of the current thread or the global seed, empty if the values are not reproducible
+     */
+    public static OptionalLong seed() {
+        if (bindingUsed) {
+            RandomScope scope = BOUND.get();
+            if (scope != null) {
+                return scope.getSeed();
+            }
+        }
+        GlobalSeed global = globalSeed;
+        return global == null ? OptionalLong.empty() : OptionalLong.of(global.seed);
+    }
+
+    /**
+     * Set the global seed, the threads restart their sequence from the new seed.
+     *
+     * @param seed
+     *            the global seed
+     */
+    public static void setSeed(long seed) {
+        globalSeed = new GlobalSeed(seed);
+    }
+
+    /**
+     * Clear the global seed, the threads use their unseeded default source again.
+     */
+    public static void clearSeed() {
+        globalSeed = null;
+    }
+
+    /**
+     * Create a seeded source (through the {@link RandomSourceProvider}) and bind it to the current thread.
+     *
+     * @param seed
+     *            the seed of the source
+     * @return the scope to close
+     */
+    public static RandomScope open(long seed) {
+        return push(PROVIDER.create(seed), OptionalLong.of(seed));
+    }
+
+    /**
+     * Bind the source to the current thread. The scope reports the seed of the enclosing scope (see {@link #seed()}). Binding the unseeded
+     * default source over the unseeded default is a no-op.
+     *
+     * @param source
+     *            the source to bind
+     * @return the scope to close
+     */
+    public static RandomScope bind(RandomSource source) {
+        Condition.notNull(source, "source should not be null.");
+        if (source == ThreadLocalRandomSource.INSTANCE && current() == ThreadLocalRandomSource.INSTANCE) {
+            return new RandomScope(source, OptionalLong.empty(), null, false);
+        }
+        return push(source, seed());
+    }
+
+    /**
+     * Run the action with a seeded source bound to the current thread.
+     *
+     * @param seed
+     *            the seed of the source
+     * @param action
+     *            the action generating the values
+     * @param <T>
+     *            the type of the result
+     * @return the result of the action
+     */
+    public static <T> T withSeed(long seed, Supplier<T> action) {
+        Condition.notNull(action, "action should not be null.");
+        try (RandomScope scope = open(seed)) {
+            return action.get();
+        }
+    }
+
+    private static RandomScope push(RandomSource source, OptionalLong seed) {
+        bindingUsed = true;
+        RandomScope scope = new RandomScope(source, seed, BOUND.get(), true);
+        BOUND.set(scope);
+        return scope;
+    }
+
+    /**
+     * Restore the scope preceding {@code scope} on the current thread.
+     *
+     * @param scope
+     *            the closed scope
+     */
+    static void unbind(RandomScope scope) {
+        Condition.expected(BOUND.get() == scope, "RandomScope should be closed on its own thread, in reverse order of opening.");
+        RandomScope previous = scope.getPrevious();
+        if (previous == null) {
+            BOUND.remove();
+        } else {
+            BOUND.set(previous);
+        }
+    }
+
+    private static RandomSourceProvider loadProvider() {
+        Iterator<RandomSourceProvider> providers = ServiceLoader.load(RandomSourceProvider.class, RandomSources.class.getClassLoader()).iterator();
+        return providers.hasNext() ? providers.next() : SplittableRandomSource::new;
+    }
+
+    private static GlobalSeed readSeedProperty() {
+        String value = System.getProperty(SEED_PROPERTY);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return new GlobalSeed(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            throw new InvalidConfigException("The " + SEED_PROPERTY + " system property should be a long, but was: [" + value + "]", e);
+        }
+    }
+
+    /**
+     * The global seed and the sources derived from it for the threads.
+     */
+    private static final class GlobalSeed {
+
+        private final long seed;
+        private final RandomSource root;
+        private final AtomicLong threadCounter = new AtomicLong();
+
+        private GlobalSeed(long seed) {
+            this.seed = seed;
+            this.root = PROVIDER.create(seed);
+        }
+
+        private RandomSource threadSource() {
+            ThreadSource threadSource = THREAD_SOURCE.get();
+            if (threadSource == null || threadSource.owner != this) {
+                threadSource = new ThreadSource(this, root.derive(threadCounter.getAndIncrement()));
+                THREAD_SOURCE.set(threadSource);
+            }
+            return threadSource.source;
+        }
+    }
+
+    /**
+     * The source of one thread, valid while its global seed is set.
+     */
+    private static final class ThreadSource {
+
+        private final GlobalSeed owner;
+        private final RandomSource source;
+
+        private ThreadSource(GlobalSeed owner, RandomSource source) {
+            this.owner = owner;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded {@link RandomSource} on a {@link SplittableRandom}, the default implementation of the seeded sources (see
+ * {@link RandomSourceProvider}). The instances are not thread safe.
+ *
+ * @since 2.1.0
+ */
+public final class SplittableRandomSource implements RandomSource {
+
+    /**
+     * The odd constant of the seed sequence of {@link SplittableRandom} (the golden ratio scaled to 64 bits)
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * @param seed
+     *            the initial seed
+     */
+    public SplittableRandomSource(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * @return the seed of this source
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SplittableRandomSource(random.nextLong());
+    }
+
+    @Override
+    public RandomSource derive(long index) {
+        return new SplittableRandomSource(mix64(seed + GOLDEN_GAMMA * (index + 1)));
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return random.nextInt(origin, bound);
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        return random.nextLong(bound);
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        return random.nextLong(origin, bound);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public double nextDouble(double origin, double bound) {
+        return random.nextDouble(origin, bound);
+    }
+
+    @Override
+    public String toString() {
+        return "SplittableRandomSource[seed=" + seed + "]";
+    }
+
+    /**
+     * The 64 bit finalizer of MurmurHash3 (variant 13 of David Stafford), spreads the close seeds of the derived sources.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,90 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Distribution given by the relative weight of every index, sampled through an {@link AliasTable} built once per selection size.
+ */
+final class WeightedDistribution implements Distribution {
+
+    /**
+     * The relative weight of an index of a selection
+     */
+    @FunctionalInterface
+    interface Weight {
+        double of(int index, int size);
+    }
+
+    /**
+     * Above this the tables are dropped, so selections of ever changing sizes do not keep tables forever
+     */
+    private static final int MAX_CACHED_TABLES = 64;
+
+    private final String description;
+    private final Weight weight;
+    private final Map<Integer, AliasTable> tables = new ConcurrentHashMap<>();
+
+    /**
+     * The table of the last sampled size, most selections have the same size every time
+     */
+    private volatile AliasTable last;
+
+    WeightedDistribution(String description, Weight weight) {
+        this.description = description;
+        this.weight = weight;
+    }
+
+    @Override
+    public int sample(int size, RandomSource random) {
+        AliasTable table = last;
+        if (table == null || table.size() != size) {
+            table = table(size);
+            last = table;
+        }
+        return table.sample(random);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    private AliasTable table(int size) {
+        AliasTable result = tables.get(size);
+        if (result == null) {
+            if (tables.size() >= MAX_CACHED_TABLES) {
+                tables.clear();
+            }
+            result = tables.computeIfAbsent(size, this::createTable);
+        }
+        return result;
+    }
+
+    private AliasTable createTable(int size) {
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = weight.of(i, size);
+        }
+        return new AliasTable(weights);
+    }
+}
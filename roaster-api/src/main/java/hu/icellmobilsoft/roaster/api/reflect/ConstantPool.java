@@ -0,0 +1,161 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.reflect;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+import hu.icellmobilsoft.roaster.api.random.Distribution;
+import hu.icellmobilsoft.roaster.api.random.Distributions;
+
+/**
+ * Cached index of the static field values with a given type of a class (mostly constant interfaces), used by {@code Any.fieldValue},
+ * {@code Any.butValue}, {@code Any.butInt} and {@code Condition.contains}.
+ * <p>
+ * The values are read only once per (class, type) pair. Sampling is a direct array access, membership is a hash set lookup, for
+ * {@code int} constants a binary search in a sorted {@code int[]} without boxing.
+ *
+ * @param <T>
+ *            the type of the fields
+ */
+public final class ConstantPool<T> {
+
+    private static final ClassValue<Map<Class<?>, ConstantPool<?>>> POOLS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, ConstantPool<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final List<T> values;
+    private final Set<Object> valueSet;
+    private final int[] sortedInts;
+
+    private ConstantPool(Class<T> fieldType, List<T> values) {
+        this.values = Collections.unmodifiableList(values);
+        this.valueSet = new HashSet<>(values);
+        if (Integer.TYPE.equals(fieldType)) {
+            this.sortedInts = values.stream().mapToInt(Integer.class::cast).sorted().toArray();
+        } else {
+            this.sortedInts = new int[0];
+        }
+    }
+
+    /**
+     * Returns the cached pool of the static fields of {@code declaringClass} with exactly the type {@code fieldType}, the pool is built at the
+     * first call.
+     *
+     * @param declaringClass
+     *            the class declaring the fields (mostly an interface)
+     * @param fieldType
+     *            the type of the fields
+     * @param <T>
+     *            the type of the fields
+     * @return the pool of the field values
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ConstantPool<T> of(Class<?> declaringClass, Class<T> fieldType) {
+        Condition.notNull(declaringClass, "declaringClass should not be null.");
+        Condition.notNull(fieldType, "fieldType should not be null.");
+        Map<Class<?>, ConstantPool<?>> pools = POOLS.get(declaringClass);
+        ConstantPool<?> result = pools.get(fieldType);
+        if (result == null) {
+            result = pools.computeIfAbsent(fieldType, type -> create(declaringClass, type));
+        }
+        return (ConstantPool<T>) result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ConstantPool<T> create(Class<?> declaringClass, Class<T> fieldType) {
+        List<T> values = new ArrayList<>();
+        for (Field field : declaringClass.getDeclaredFields()) {
+            if (field.getType().equals(fieldType)) {
+                Condition.expected(Modifier.isStatic(field.getModifiers()), "Field should be static.");
+                values.add((T) FieldAccessor.of(field).get(null));
+            }
+        }
+        return new ConstantPool<>(fieldType, values);
+    }
+
+    /**
+     * @return the field values in the declaration order
+     */
+    public List<T> values() {
+        return values;
+    }
+
+    /**
+     * @return the number of the field values
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * @return true if there is no field with the type
+     */
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * @return a random field value
+     */
+    public T sample() {
+        return sample(Distributions.uniform());
+    }
+
+    /**
+     * @param distribution
+     *            the distribution of the selected field over the declaration order
+     * @return a random field value selected by the {@code distribution}
+     */
+    public T sample(Distribution distribution) {
+        Condition.expected(!values.isEmpty(), "Field value list should not be empty.");
+        return values.get(distribution.sample(values.size()));
+    }
+
+    /**
+     * @param value
+     *            the value to search for
+     * @return true if any of the fields has the value
+     */
+    public boolean contains(Object value) {
+        return valueSet.contains(value);
+    }
+
+    /**
+     * @param value
+     *            the value to search for
+     * @return true if any of the {@code int} fields has the value
+     */
+    public boolean containsInt(int value) {
+        return Arrays.binarySearch(sortedInts, value) >= 0;
+    }
+}
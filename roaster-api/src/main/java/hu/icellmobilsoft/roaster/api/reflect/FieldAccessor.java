@@ -0,0 +1,392 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+import hu.icellmobilsoft.roaster.api.TestException;
+
+/**
+ * Cached read and write access of a (private) field through method handles, shared by {@link Setter}, {@link Getter} and the
+ * {@code GenericTypeBuilder}.
+ * <p>
+ * The accessors are cached per declaring class, the handles are resolved only once per field through a private lookup of the declaring class,
+ * so the accessibility of the field is never toggled and the accessor can be used from several threads. The cache lives behind a
+ * {@link ClassValue}, so it is unloaded together with the declaring class.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String fieldName;
+    private final Class<?> fieldType;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle typedSetter;
+
+    private FieldAccessor(Field field) {
+        this.fieldName = field.getName();
+        this.fieldType = field.getType();
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        MethodHandles.Lookup lookup = lookup(field);
+        this.getter = adapt(unreflectGetter(lookup, field), isStatic).asType(GETTER_TYPE);
+        MethodHandle fieldSetter = unreflectSetter(lookup, field);
+        if (fieldSetter == null) {
+            this.setter = null;
+            this.typedSetter = null;
+        } else {
+            this.typedSetter = adapt(fieldSetter, isStatic).asType(MethodType.methodType(void.class, Object.class, fieldType));
+            this.setter = typedSetter.asType(SETTER_TYPE);
+        }
+    }
+
+    /**
+     * Returns the cached accessor of the field, the accessor is created at the first call.
+     *
+     * @param field
+     *            the field
+     * @return the accessor of the field
+     */
+    public static FieldAccessor of(Field field) {
+        Map<String, FieldAccessor> accessors = ACCESSORS.get(field.getDeclaringClass());
+        FieldAccessor result = accessors.get(field.getName());
+        if (result == null) {
+            result = accessors.computeIfAbsent(field.getName(), name -> new FieldAccessor(field));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cached accessor of the field declared by {@code declaringClass}.
+     *
+     * @param declaringClass
+     *            the class declaring the field
+     * @param fieldName
+     *            the name of the field
+     * @return the accessor of the field
+     */
+    public static FieldAccessor of(Class<?> declaringClass, String fieldName) {
+        Condition.notNull(declaringClass, "declaringClass should not be null.");
+        FieldAccessor result = ACCESSORS.get(declaringClass).get(fieldName);
+        if (result == null) {
+            try {
+                result = of(declaringClass.getDeclaredField(fieldName));
+            } catch (NoSuchFieldException e) {
+                throw new TestException(MessageFormat.format("Field [{0}] not found in [{1}].", fieldName, declaringClass.getName()), e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the name of the field
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @return the type of the field
+     */
+    public Class<?> getFieldType() {
+        return fieldType;
+    }
+
+    /**
+     * @param entity
+     *            the entity object, {@code null} for static fields
+     * @return the (boxed) value of the field
+     */
+    public Object get(Object entity) {
+        Object result = null;
+        try {
+            result = (Object) getter.invokeExact(entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not get field [{0}].", fieldName), e);
+        }
+        return result;
+    }
+
+    /**
+     * Set the field value, primitive fields are unboxed.
+     *
+     * @param entity
+     *            the entity object, {@code null} for static fields
+     * @param value
+     *            the value to set the field
+     */
+    public void set(Object entity, Object value) {
+        try {
+            writableSetter().invokeExact(entity, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not set field [{0}].", fieldName), e);
+        }
+    }
+
+    /**
+     * Set a boolean field value.
+     *
+     * @param entity
+     *            the entity object, {@code null} for static fields
+     * @param value
+     *            the value to set the field
+     */
+    public void setBoolean(Object entity, boolean value) {
+        try {
+            if (fieldType == boolean.class) {
+                writableTypedSetter().invokeExact(entity, value);
+            } else {
+                writableTypedSetter().invoke(entity, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not set field [{0}].", fieldName), e);
+        }
+    }
+
+    /**
+     * Set a byte (or wider numeric) field value.
+     *
+     * @param entity
+     *            the entity object, {@code null} for static fields
+     * @param value
+     *            the value to set the field
+     */
+    public void setByte(Object entity, byte value) {
+        try {
+            if (fieldType == byte.class) {
+                writableTypedSetter().invokeExact(entity, value);
+            } else {
+                writableTypedSetter().invoke(entity, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not set field [{0}].", fieldName), e);
+        }
+    }
+
+    /**
+     * Set a short (or wider numeric) field value.
+     *
+     * @param entity
+     *            the entity object, {@code null} for static fields
+     * @param value
+     *            the value to set the field
+     */
+    public void setShort(Object entity, short value) {
+        try {
+            if (fieldType == short.class) {
+                writableTypedSetter().invokeExact(entity, value);
+            } else {
+                writableTypedSetter().invoke(entity, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not set field [{0}].", fieldName), e);
+        }
+    }
+
+    /**
+     * Set an int (or wider numeric) field value.
+     *
+     * @param entity
+     *            the entity object, {@code null} for static fields
+     * @param value
+     *            the value to set the field
+     */
+    public void setInt(Object entity, int value) {
+        try {
+            if (fieldType == int.class) {
+                writableTypedSetter().invokeExact(entity, value);
+            } else {
+                writableTypedSetter().invoke(entity, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not set field [{0}].", fieldName), e);
+        }
+    }
+
+    /**
+     * Set a long (or wider numeric) field value.
+     *
+     * @param entity
+     *            the entity object, {@code null} for static fields
+     * @param value
+     *            the value to set the field
+     */
+    public void setLong(Object entity, long value) {
+        try {
+            if (fieldType == long.class) {
+                writableTypedSetter().invokeExact(entity, value);
+            } else {
+                writableTypedSetter().invoke(entity, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not set field [{0}].", fieldName), e);
+        }
+    }
+
+    /**
+     * Set a float (or double) field value.
+     *
+     * @param entity
+     *            the entity object, {@code null} for static fields
+     * @param value
+     *            the value to set the field
+     */
+    public void setFloat(Object entity, float value) {
+        try {
+            if (fieldType == float.class) {
+                writableTypedSetter().invokeExact(entity, value);
+            } else {
+                writableTypedSetter().invoke(entity, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not set field [{0}].", fieldName), e);
+        }
+    }
+
+    /**
+     * Set a double field value.
+     *
+     * @param entity
+     *            the entity object, {@code null} for static fields
+     * @param value
+     *            the value to set the field
+     */
+    public void setDouble(Object entity, double value) {
+        try {
+            if (fieldType == double.class) {
+                writableTypedSetter().invokeExact(entity, value);
+            } else {
+                writableTypedSetter().invoke(entity, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not set field [{0}].", fieldName), e);
+        }
+    }
+
+    private MethodHandle writableSetter() {
+        if (setter == null) {
+            throw new TestException(MessageFormat.format("Field [{0}] is static final, it can not be set.", fieldName));
+        }
+        return setter;
+    }
+
+    private MethodHandle writableTypedSetter() {
+        writableSetter();
+        return typedSetter;
+    }
+
+    /**
+     * Private lookup in the declaring class, {@code null} if the declaring module does not open the package to us.
+     */
+    private static MethodHandles.Lookup lookup(Field field) {
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectGetter(MethodHandles.Lookup lookup, Field field) {
+        MethodHandle result = null;
+        try {
+            result = lookup != null ? lookup.unreflectGetter(field) : MethodHandles.lookup().unreflectGetter(accessibleCopy(field));
+        } catch (IllegalAccessException e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not create getter for field [{0}].", field.getName()), e);
+        }
+        return result;
+    }
+
+    /**
+     * The setter of a final instance field can be created only from an accessible field, static final fields are not writable at all.
+     */
+    private static MethodHandle unreflectSetter(MethodHandles.Lookup lookup, Field field) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers)) {
+            return null;
+        }
+        MethodHandle result = null;
+        try {
+            if (lookup != null && !Modifier.isFinal(modifiers)) {
+                result = lookup.unreflectSetter(field);
+            } else {
+                result = MethodHandles.lookup().unreflectSetter(accessibleCopy(field));
+            }
+        } catch (IllegalAccessException e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Could not create setter for field [{0}].", field.getName()), e);
+        }
+        return result;
+    }
+
+    /**
+     * A private copy of the field made accessible once, the field object of the caller is not modified.
+     */
+    private static Field accessibleCopy(Field field) {
+        Field result = null;
+        try {
+            result = field.getDeclaringClass().getDeclaredField(field.getName());
+            result.setAccessible(true);
+        } catch (NoSuchFieldException | RuntimeException e) {
+            Condition.shouldNeverThrown(MessageFormat.format("Field [{0}] is not accessible.", field.getName()), e);
+        }
+        return result;
+    }
+
+    /**
+     * Static field handles get an ignored leading entity parameter, so every handle has the same shape.
+     */
+    private static MethodHandle adapt(MethodHandle handle, boolean isStatic) {
+        return isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+    }
+}
@@ -19,14 +19,12 @@
  */
 package hu.icellmobilsoft.roaster.api.reflect;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 
-import hu.icellmobilsoft.roaster.api.Condition;
-
 /**
- * Class to get private field values from outside of the class.
+ * Class to get private field values from outside of the class. The static field values are read only once, through the cached
+ * {@link ConstantPool} of the class.
  *
  */
 public class Getter {
@@ -43,45 +41,10 @@ public class Getter {
      *            the type of the field
      * @param <I>
      *            the type of the interface
-     * @return the list of the static field values with the type {@code T}
+     * @return a new list of the static field values with the type {@code T}
      */
     public static <T, I> List<T> getFieldsValue(Class<I> ifaceClass, Class<T> typeClass) {
-        List<T> result = new ArrayList<>();
-        for (Field field : ifaceClass.getDeclaredFields()) {
-            if (field.getType().equals(typeClass)) {
-                result.add(getFieldValue(field, typeClass));
-            }
-        }
-        return result;
-    }
-
-    /**
-     * @param field
-     *            the field
-     * @param typeClass
-     *            the class of the fields type
-     * @param <T>
-     *            the type of the field
-     * @return the value of the field (only if the field is static)
-     */
-    private static <T> T getFieldValue(final Field field, Class<T> typeClass) {
-        Condition.expected(field.getType().equals(typeClass), "Field type should be the same as the typeClass.");
-        Condition.expected(java.lang.reflect.Modifier.isStatic(field.getModifiers()), "Field should be static.");
-        T result = null;
-        boolean hasAccess = field.isAccessible();
-        try {
-            if (!hasAccess) {
-                field.setAccessible(true);
-            }
-            result = (T) field.get(null);
-        } catch (IllegalAccessException ex) {
-            Condition.shouldNeverThrown(ex);
-        } finally {
-            if (!hasAccess) {
-                field.setAccessible(false);
-            }
-        }
-        return result;
+        return new ArrayList<>(ConstantPool.of(ifaceClass, typeClass).values());
     }
 
 }
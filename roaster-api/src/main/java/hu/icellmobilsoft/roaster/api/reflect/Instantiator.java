@@ -0,0 +1,172 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.reflect;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.text.MessageFormat;
+import java.util.function.Supplier;
+
+import hu.icellmobilsoft.roaster.api.Condition;
+import hu.icellmobilsoft.roaster.api.TestException;
+
+/**
+ * Cached no-arg constructor based instantiation of a class, shared by {@code Any.createEntity} and the {@code Builder}.
+ * <p>
+ * The factory of a class is resolved only once: a {@link LambdaMetafactory} generated {@link Supplier} calling the no-arg constructor, or if
+ * that is not possible (for example the class is in an other class loader), a cached constructor {@link MethodHandle}. For the classes that can
+ * not be instantiated, the factory throws a {@link TestException} explaining the reason.
+ */
+public final class Instantiator {
+
+    private static final MethodType SUPPLIER_FACTORY_TYPE = MethodType.methodType(Supplier.class);
+
+    private static final MethodType SUPPLIER_GET_TYPE = MethodType.methodType(Object.class);
+
+    private static final ClassValue<Supplier<?>> FACTORIES = new ClassValue<>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return createFactory(type);
+        }
+    };
+
+    private Instantiator() {
+    }
+
+    /**
+     * Returns the cached factory of the class, the factory is resolved at the first call.
+     *
+     * @param type
+     *            the class to instantiate
+     * @param <T>
+     *            the type of the class
+     * @return the factory calling the no-arg constructor of the class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> of(Class<T> type) {
+        Condition.notNull(type, "type should not be null.");
+        return (Supplier<T>) FACTORIES.get(type);
+    }
+
+    /**
+     * Create a new instance of the class through its no-arg constructor.
+     *
+     * @param type
+     *            the class to instantiate
+     * @param <T>
+     *            the type of the class
+     * @return the new instance
+     */
+    public static <T> T newInstance(Class<T> type) {
+        return of(type).get();
+    }
+
+    private static Supplier<?> createFactory(Class<?> type) {
+        String notInstantiable = checkInstantiable(type);
+        if (notInstantiable != null) {
+            String message = MessageFormat.format("Class [{0}] can not be instantiated: {1}.", type.getName(), notInstantiable);
+            return () -> {
+                throw new TestException(message);
+            };
+        }
+        MethodHandles.Lookup lookup = lookup(type);
+        MethodHandle constructor = null;
+        try {
+            constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            String message = MessageFormat.format("Class [{0}] can not be instantiated: the no-arg constructor is not accessible.", type.getName());
+            return () -> {
+                throw new TestException(message, e);
+            };
+        }
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_FACTORY_TYPE, SUPPLIER_GET_TYPE, constructor,
+                    MethodType.methodType(type));
+            return (Supplier<?>) callSite.getTarget().invokeExact();
+        } catch (Throwable e) {
+            // the lookup has no full privilege access (other class loader), fall back to the constructor handle
+            return new ConstructorHandleFactory(type, constructor.asType(SUPPLIER_GET_TYPE));
+        }
+    }
+
+    /**
+     * Private lookup in the class, or if its module does not open the package to us (for example JDK classes), our own lookup that reaches
+     * the public constructors.
+     */
+    private static MethodHandles.Lookup lookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.lookup();
+        }
+    }
+
+    /**
+     * @return the reason why the class can not be instantiated, or {@code null}
+     */
+    private static String checkInstantiable(Class<?> type) {
+        if (type.isPrimitive() || type.isArray()) {
+            return "primitive and array types have no constructor";
+        } else if (type.isInterface()) {
+            return "it is an interface";
+        } else if (Modifier.isAbstract(type.getModifiers())) {
+            return "it is an abstract class";
+        } else if (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) {
+            return "it is a non static inner class";
+        }
+        try {
+            type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return "it has no no-arg constructor";
+        }
+        return null;
+    }
+
+    /**
+     * Factory invoking the cached constructor handle.
+     */
+    private static final class ConstructorHandleFactory implements Supplier<Object> {
+
+        private final Class<?> type;
+        private final MethodHandle constructor;
+
+        private ConstructorHandleFactory(Class<?> type, MethodHandle constructor) {
+            this.type = type;
+            this.constructor = constructor;
+        }
+
+        @Override
+        public Object get() {
+            Object result = null;
+            try {
+                result = constructor.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                Condition.shouldNeverThrown(MessageFormat.format("Failed to create [{0}].", type.getName()), e);
+            }
+            return result;
+        }
+    }
+}
@@ -28,6 +28,8 @@ import hu.icellmobilsoft.roaster.api.TestException;
 
 /**
  * Class to set private field values from outside of the class.
+ * <p>
+ * The values are set through the cached {@link FieldAccessor} of the field, the accessibility of the field is not changed.
  *
  */
 public class Setter {
@@ -44,7 +46,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final boolean value) {
-        setValue(entity, field, field::setBoolean, value);
+        FieldAccessor.of(field).setBoolean(entity, value);
     }
 
     /**
@@ -60,7 +62,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final boolean[] value) {
-        setValue(entity, field, field::set, value);
+        FieldAccessor.of(field).set(entity, value);
     }
 
     /**
@@ -76,7 +78,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final byte value) {
-        setValue(entity, field, field::setByte, value);
+        FieldAccessor.of(field).setByte(entity, value);
     }
 
     /**
@@ -92,7 +94,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final byte[] value) {
-        setValue(entity, field, field::set, value);
+        FieldAccessor.of(field).set(entity, value);
     }
 
     /**
@@ -108,7 +110,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final long value) {
-        setValue(entity, field, field::setLong, value);
+        FieldAccessor.of(field).setLong(entity, value);
     }
 
     /**
@@ -124,7 +126,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final long[] value) {
-        setValue(entity, field, field::set, value);
+        FieldAccessor.of(field).set(entity, value);
     }
 
     /**
@@ -140,7 +142,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final int value) {
-        setValue(entity, field, field::setInt, value);
+        FieldAccessor.of(field).setInt(entity, value);
     }
 
     /**
@@ -156,7 +158,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final int[] value) {
-        setValue(entity, field, field::set, value);
+        FieldAccessor.of(field).set(entity, value);
     }
 
     /**
@@ -172,7 +174,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final short value) {
-        setValue(entity, field, field::setShort, value);
+        FieldAccessor.of(field).setShort(entity, value);
     }
 
     /**
@@ -188,7 +190,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final short[] value) {
-        setValue(entity, field, field::set, value);
+        FieldAccessor.of(field).set(entity, value);
     }
 
     /**
@@ -204,7 +206,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final float value) {
-        setValue(entity, field, field::setFloat, value);
+        FieldAccessor.of(field).setFloat(entity, value);
     }
 
     /**
@@ -220,7 +222,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final float[] value) {
-        setValue(entity, field, field::set, value);
+        FieldAccessor.of(field).set(entity, value);
     }
 
     /**
@@ -236,7 +238,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final double value) {
-        setValue(entity, field, field::setDouble, value);
+        FieldAccessor.of(field).setDouble(entity, value);
     }
 
     /**
@@ -252,7 +254,7 @@ public class Setter {
      *            the type of the entity
      */
     public static <E> void setValue(final E entity, final Field field, final double[] value) {
-        setValue(entity, field, field::set, value);
+        FieldAccessor.of(field).set(entity, value);
     }
 
     /**
@@ -270,10 +272,12 @@ public class Setter {
      *            the type of the value
      */
     public static <E, V> void setValue(final E entity, final Field field, final V value) {
-        setValue(entity, field, field::set, value);
+        FieldAccessor.of(field).set(entity, value);
     }
 
     /**
+     * @deprecated the typed {@code setValue} methods set the value through the cached {@link FieldAccessor}, without toggling the accessibility
+     *             of the field on every call
      * @param entity
      *            the entity object
      * @param field
@@ -287,6 +291,7 @@ public class Setter {
      * @param <V>
      *            the value type
      */
+    @Deprecated(since = "2.1.0")
     public static <E, V> void setValue(final E entity, final Field field, FieldBiConsumer<E, V> setter, V value) {
         field.setAccessible(true);
         try {
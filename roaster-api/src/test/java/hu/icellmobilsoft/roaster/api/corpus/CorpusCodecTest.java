@@ -0,0 +1,162 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.corpus;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.stream.Stream;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import hu.icellmobilsoft.roaster.api.TestException;
+
+class CorpusCodecTest {
+
+    enum Color {
+        RED, GREEN
+    }
+
+    static class Node {
+        String name;
+        Color color;
+        int[] counts;
+        Node child;
+        transient String skipped;
+    }
+
+    static Stream<Object> values() throws Exception {
+        return Stream.of(true, (byte) -7, (short) -300, 'ő', Integer.MIN_VALUE, Long.MAX_VALUE, 1.5f, -0.25d, "árvíztűrő 🐘",
+                new BigInteger("-123456789012345678901234567890"), new BigDecimal("-1234.5678"), Color.GREEN, new Date(1_700_000_000_123L),
+                DatatypeFactory.newInstance().newXMLGregorianCalendar("2023-04-05T06:07:08.009+02:00"), Instant.ofEpochSecond(1_700_000_000L, 123_456_789),
+                LocalDate.of(2023, 4, 5), LocalDateTime.of(2023, 4, 5, 6, 7, 8, 9), OffsetDateTime.of(2023, 4, 5, 6, 7, 8, 9, ZoneOffset.ofHours(-3)),
+                new ArrayList<>(Arrays.asList("a", null, 3)), new LinkedHashSet<>(Arrays.asList(3L, 1L, 2L)));
+    }
+
+    static Stream<Object> arrays() {
+        return Stream.of(new byte[] { 1, -2, 3 }, new boolean[] { true, false, true }, new short[] { 1, Short.MIN_VALUE },
+                new char[] { 'a', 'ű', Character.MAX_VALUE }, new int[] { 1, Integer.MIN_VALUE, Integer.MAX_VALUE }, new long[] { Long.MIN_VALUE, 0, 5 },
+                new float[] { 1.5f, Float.NaN, -0f }, new double[] { Double.MAX_VALUE, Double.NEGATIVE_INFINITY }, new int[0]);
+    }
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void shouldRoundTripValue(Object value) throws IOException {
+        // when
+        Object actual = roundTrip(value);
+
+        // then
+        assertEquals(value, actual);
+        assertEquals(value.getClass(), actual.getClass());
+    }
+
+    @ParameterizedTest
+    @MethodSource("arrays")
+    void shouldRoundTripPrimitiveArray(Object value) throws IOException {
+        // when
+        Object actual = roundTrip(value);
+
+        // then
+        assertEquals(value.getClass(), actual.getClass());
+        assertArrayEquals(new Object[] { value }, new Object[] { actual });
+    }
+
+    @Test
+    void shouldRoundTripNull() throws IOException {
+        // when
+        Object actual = roundTrip(null);
+
+        // then
+        assertNull(actual);
+    }
+
+    @Test
+    void shouldRoundTripObjectGraph() throws IOException {
+        // given
+        Node value = new Node();
+        value.name = "parent";
+        value.color = Color.RED;
+        value.counts = new int[] { 4, 5, 6 };
+        value.skipped = "skipped";
+        value.child = new Node();
+        value.child.name = "child";
+
+        // when
+        Node actual = (Node) roundTrip(value);
+
+        // then
+        assertEquals("parent", actual.name);
+        assertEquals(Color.RED, actual.color);
+        assertArrayEquals(new int[] { 4, 5, 6 }, actual.counts);
+        assertNull(actual.skipped);
+        assertEquals("child", actual.child.name);
+        assertNull(actual.child.color);
+        assertNull(actual.child.counts);
+        assertNull(actual.child.child);
+    }
+
+    @Test
+    void shouldRejectUnsupportedValue() {
+        // given
+        CorpusCodec.Encoder testObj = new CorpusCodec.Encoder();
+        DataOutputStream out = new DataOutputStream(new ByteArrayOutputStream());
+
+        // when
+        // then
+        assertThrows(TestException.class, () -> testObj.write(out, Collections.singletonMap("key", "value")));
+        assertThrows(TestException.class, () -> testObj.write(out, new String[] { "a" }));
+    }
+
+    private static Object roundTrip(Object value) throws IOException {
+        CorpusCodec.Encoder testObj = new CorpusCodec.Encoder();
+        ByteArrayOutputStream values = new ByteArrayOutputStream();
+        testObj.write(new DataOutputStream(values), value);
+        ByteArrayOutputStream classTable = new ByteArrayOutputStream();
+        testObj.writeClassTable(new DataOutputStream(classTable));
+
+        CorpusCodec.Decoder decoder = CorpusCodec.Decoder.readClassTable(ByteBuffer.wrap(classTable.toByteArray()), CorpusCodecTest.class.getClassLoader());
+        ByteBuffer buffer = ByteBuffer.wrap(values.toByteArray());
+        Object result = decoder.read(buffer);
+        assertEquals(0, buffer.remaining());
+        return result;
+    }
+}
@@ -0,0 +1,146 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.corpus;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hu.icellmobilsoft.roaster.api.PreconditionFailException;
+
+class FixtureCorpusTest {
+
+    @XmlType
+    static class Sample {
+        @XmlElement(required = true)
+        String name;
+        @XmlElement(required = true)
+        boolean[] flags;
+        @XmlElement(required = true)
+        short[] shorts;
+        @XmlElement(required = true)
+        int[] ints;
+        @XmlElement(required = true)
+        long[] longs;
+        @XmlElement(required = true)
+        float[] floats;
+        @XmlElement(required = true)
+        double[] doubles;
+    }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldGenerateAndReadBackPrimitiveArrays() {
+        // given
+        FixtureCorpus testObj = new FixtureCorpus(directory);
+
+        // when
+        List<Sample> generated = testObj.list(Sample.class, 42L, 5);
+        List<Sample> snapshot = testObj.list(Sample.class, 42L, 5);
+
+        // then
+        assertTrue(Files.exists(testObj.file(Sample.class, 42L, 5)));
+        assertEquals(5, snapshot.size());
+        for (int i = 0; i < generated.size(); ++i) {
+            Sample expected = generated.get(i);
+            Sample actual = snapshot.get(i);
+            assertNotNull(expected.flags);
+            assertNotNull(expected.doubles);
+            assertEquals(expected.name, actual.name);
+            assertArrayEquals(expected.flags, actual.flags);
+            assertArrayEquals(expected.shorts, actual.shorts);
+            assertArrayEquals(expected.ints, actual.ints);
+            assertArrayEquals(expected.longs, actual.longs);
+            assertArrayEquals(expected.floats, actual.floats);
+            assertArrayEquals(expected.doubles, actual.doubles);
+        }
+    }
+
+    @Test
+    void shouldReturnReadOnlyList() {
+        // given
+        FixtureCorpus testObj = new FixtureCorpus(directory);
+
+        // when
+        List<Sample> generated = testObj.list(Sample.class, 7L, 2);
+        List<Sample> snapshot = testObj.list(Sample.class, 7L, 2);
+
+        // then
+        assertFalse(generated.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> generated.add(new Sample()));
+        assertThrows(UnsupportedOperationException.class, () -> generated.set(0, new Sample()));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(new Sample()));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.set(0, new Sample()));
+    }
+
+    @Test
+    void shouldKeepDataSetsOfGeneratorsApart() {
+        // given
+        FixtureCorpus testObj = new FixtureCorpus(directory);
+        List<Sample> generated = testObj.list(Sample.class, 7L, 2);
+
+        // when
+        List<Sample> first = testObj.list(Sample.class, "first", 7L, 2, () -> List.of(named("a"), named("b")));
+        List<Sample> second = testObj.list(Sample.class, "second", 7L, 2, () -> List.of(named("c"), named("d")));
+        List<Sample> firstAgain = testObj.list(Sample.class, "first", 7L, 2, () -> List.of(named("x"), named("y")));
+
+        // then
+        assertEquals("a", first.get(0).name);
+        assertEquals("c", second.get(0).name);
+        assertEquals("a", firstAgain.get(0).name);
+        assertEquals(generated.get(0).name, testObj.list(Sample.class, 7L, 2).get(0).name);
+        assertNotEquals(testObj.file(Sample.class, 7L, 2), testObj.file(Sample.class, "first", 7L, 2));
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        // given
+        FixtureCorpus testObj = new FixtureCorpus(directory);
+
+        // when
+        // then
+        assertThrows(PreconditionFailException.class, () -> testObj.list(Sample.class, 7L, 0));
+        assertThrows(PreconditionFailException.class, () -> testObj.list(Sample.class, "empty", 7L, 0, List::of));
+        assertThrows(PreconditionFailException.class, () -> testObj.list(Sample.class, "../escape", 7L, 1, () -> List.of(named("a"))));
+        assertThrows(PreconditionFailException.class, () -> testObj.list(Sample.class, null, 7L, 1, () -> List.of(named("a"))));
+    }
+
+    private static Sample named(String name) {
+        Sample result = new Sample();
+        result.name = name;
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.roaster.api.random.RandomSources;
+
+class AnyDtoTest {
+
+    private static final long SEED = 42L;
+
+    private static final int REPEAT = 8;
+
+    @XmlType
+    static class Sample {
+        @XmlElement(required = true)
+        String name;
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Sample && name.equals(((Sample) obj).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+
+    @Test
+    void shouldLimitParallelInfiniteStreamLikeSequential() {
+        // given
+        List<String> expected = RandomSources.withSeed(SEED, () -> AnyDto.stream(String.class).limit(2_000).collect(Collectors.toList()));
+
+        for (int i = 0; i < REPEAT; ++i) {
+            // when
+            List<String> actual = RandomSources.withSeed(SEED,
+                    () -> AnyDto.stream(String.class).parallel().limit(2_000).collect(Collectors.toList()));
+
+            // then
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void shouldLimitParallelSizedStreamLikeSequential() {
+        // given
+        List<Sample> expected = RandomSources.withSeed(SEED, () -> AnyDto.stream(Sample.class, 10_000).limit(500).collect(Collectors.toList()));
+
+        for (int i = 0; i < REPEAT; ++i) {
+            // when
+            List<Sample> actual = RandomSources.withSeed(SEED,
+                    () -> AnyDto.stream(Sample.class, 10_000).parallel().limit(500).collect(Collectors.toList()));
+
+            // then
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void shouldGenerateSameStreamForSameSeed() {
+        // given
+        List<String> expected = RandomSources.withSeed(SEED, () -> AnyDto.stream(String.class, 1_000).collect(Collectors.toList()));
+
+        // when
+        List<String> actual = RandomSources.withSeed(SEED, () -> AnyDto.stream(String.class, 1_000).parallel().collect(Collectors.toList()));
+        List<String> other = RandomSources.withSeed(SEED + 1, () -> AnyDto.stream(String.class, 1_000).collect(Collectors.toList()));
+
+        // then
+        assertEquals(expected, actual);
+        assertNotEquals(expected, other);
+    }
+
+    @Test
+    void shouldBuildSameUniqueListInParallel() {
+        // given
+        List<String> expected = RandomSources.withSeed(SEED, () -> AnyDto.uniqueList(String.class, s -> s.length() > 1 ? s.substring(0, 2) : s, 2_000,
+                100_000, false));
+
+        for (int i = 0; i < REPEAT; ++i) {
+            // when
+            List<String> actual = RandomSources.withSeed(SEED,
+                    () -> AnyDto.uniqueList(String.class, s -> s.length() > 1 ? s.substring(0, 2) : s, 2_000, 100_000, true));
+
+            // then
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void shouldKeepFirstElementOfEveryKey() {
+        // given
+        List<Sample> all = RandomSources.withSeed(SEED, () -> AnyDto.stream(Sample.class, 1_000).collect(Collectors.toList()));
+
+        // when
+        List<Sample> actual = RandomSources.withSeed(SEED, () -> AnyDto.uniqueList(Sample.class, sample -> sample.name.length(), 5, 1_000, true));
+
+        // then
+        List<Integer> lengths = all.stream().map(sample -> sample.name.length()).distinct().limit(5).collect(Collectors.toList());
+        assertEquals(lengths, actual.stream().map(sample -> sample.name.length()).collect(Collectors.toList()));
+        for (Sample sample : actual) {
+            assertEquals(all.stream().filter(other -> other.name.length() == sample.name.length()).findFirst().get(), sample);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.roaster.api.Any;
+import hu.icellmobilsoft.roaster.api.random.RandomSources;
+
+class BuildModeTest {
+
+    private static final long SEED = 42L;
+
+    private static final int REPEAT = 8;
+
+    private static final GenerationBudget BUDGET = GenerationBudget.defaults().withMaxDepth(3).withMaxListSize(3);
+
+    /**
+     * 1 + 4 + 16 + 64: every node above the depth limit has a child and 3 list elements
+     */
+    private static final long NODE_COUNT = 85;
+
+    private static ForkJoinPool pool;
+
+    @XmlType
+    static class Node {
+        @XmlElement(required = true)
+        String name;
+        @XmlElement(required = true)
+        Node child;
+        @XmlElement(required = true)
+        List<Node> children;
+    }
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldBuildSameGraphInDeterministicMode() {
+        // given
+        GenericTypeBuilder<Node> testObj = builder(BuildMode.DETERMINISTIC);
+        String expected = RandomSources.withSeed(SEED, () -> render(testObj.build(), node -> node.name));
+
+        for (int i = 0; i < REPEAT; ++i) {
+            // when
+            String actual = RandomSources.withSeed(SEED, () -> render(builder(BuildMode.DETERMINISTIC).build(), node -> node.name));
+
+            // then
+            assertEquals(expected, actual);
+        }
+        assertEquals(NODE_COUNT, testObj.getLastNodeCount());
+        assertNotEquals(expected, RandomSources.withSeed(SEED + 1, () -> render(testObj.build(), node -> node.name)));
+    }
+
+    @Test
+    void shouldBuildSameShapeInParallelMode() {
+        // given
+        GenericTypeBuilder<Node> sequential = builder(BuildMode.SEQUENTIAL);
+        String expected = render(sequential.build(), node -> "");
+
+        for (int i = 0; i < REPEAT; ++i) {
+            // when
+            GenericTypeBuilder<Node> testObj = builder(BuildMode.PARALLEL);
+            Node actual = testObj.build();
+
+            // then
+            assertEquals(expected, render(actual, node -> ""));
+            assertEquals(NODE_COUNT, testObj.getLastNodeCount());
+        }
+        assertEquals(NODE_COUNT, sequential.getLastNodeCount());
+    }
+
+    private static GenericTypeBuilder<Node> builder(BuildMode buildMode) {
+        return GenericTypeBuilder.create(Node.class, Any.createEntity(Node.class)).withBudget(BUDGET).withBuildMode(buildMode, pool);
+    }
+
+    /**
+     * @return the graph as text: the label and the non null fields of every node
+     */
+    private static String render(Node node, Function<Node, String> label) {
+        if (node == null) {
+            return "-";
+        }
+        String children = node.children == null ? "-"
+                : node.children.stream().map(child -> render(child, label)).collect(Collectors.joining(",", "[", "]"));
+        return "(" + label.apply(node) + (node.name == null ? "" : "#") + " " + render(node.child, label) + " " + children + ")";
+    }
+}
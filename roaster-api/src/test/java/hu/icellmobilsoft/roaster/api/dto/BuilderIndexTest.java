@@ -0,0 +1,143 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BuilderIndexTest {
+
+    private static final String PACKAGE = Builder.BUILDER_ROOT_PACKAGE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldMergePreviousIndexOnIncrementalCompile() throws IOException {
+        // given
+        Path output = Files.createDirectories(directory.resolve("classes"));
+        compile(output, true, builderSource("FirstBuilder", "String"));
+
+        // when
+        compile(output, true, builderSource("SecondBuilder", "StringBuilder"));
+
+        // then
+        assertEquals(Set.of(PACKAGE + ".FirstBuilder", PACKAGE + ".SecondBuilder"), readIndex(output));
+    }
+
+    @Test
+    void shouldDropRecompiledClassThatIsNoBuilderAnymore() throws IOException {
+        // given
+        Path output = Files.createDirectories(directory.resolve("classes"));
+        compile(output, true, builderSource("FirstBuilder", "String"), builderSource("SecondBuilder", "StringBuilder"));
+
+        // when
+        compile(output, true, "package " + PACKAGE + ";\npublic class FirstBuilder {\n}\n");
+
+        // then
+        assertEquals(Set.of(PACKAGE + ".SecondBuilder"), readIndex(output));
+    }
+
+    @Test
+    void shouldSearchClasspathRootsWithoutIndex() throws IOException {
+        // given
+        Path indexed = Files.createDirectories(directory.resolve("indexed"));
+        Path plain = Files.createDirectories(directory.resolve("plain"));
+        compile(indexed, true, builderSource("FirstBuilder", "String"));
+        compile(plain, false, builderSource("SecondBuilder", "StringBuilder"));
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { indexed.toUri().toURL(), plain.toUri().toURL() },
+                getClass().getClassLoader())) {
+            thread.setContextClassLoader(classLoader);
+
+            // when
+            List<Class<?>> actual = Builder.getBuilderClasses();
+
+            // then
+            Set<String> names = actual.stream().map(Class::getName).collect(Collectors.toSet());
+            assertEquals(Set.of(PACKAGE + ".FirstBuilder", PACKAGE + ".SecondBuilder"), names);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private static String builderSource(String className, String targetClass) {
+        return "package " + PACKAGE + ";\n" //
+                + "public class " + className + " extends hu.icellmobilsoft.roaster.api.dto.BaseTypeBuilder<" + targetClass + "> {\n" //
+                + "    public " + className + "() {\n" //
+                + "        super(" + targetClass + ".class, " + targetClass + "::new);\n" //
+                + "    }\n" //
+                + "    @Override\n" //
+                + "    protected void fillEntity(" + targetClass + " entity) {\n" //
+                + "    }\n" //
+                + "}\n";
+    }
+
+    private void compile(Path output, boolean index, String... sources) throws IOException {
+        Path sourceDirectory = Files.createTempDirectory(directory, "src");
+        List<File> files = new ArrayList<>();
+        for (String source : sources) {
+            String className = source.substring(source.indexOf("class ") + 6, source.indexOf(' ', source.indexOf("class ") + 6));
+            Path file = Files.createDirectories(sourceDirectory.resolve(PACKAGE.replace('.', '/'))).resolve(className + ".java");
+            Files.writeString(file, source, StandardCharsets.UTF_8);
+            files.add(file.toFile());
+        }
+        List<String> options = new ArrayList<>(
+                List.of("-d", output.toString(), "-classpath", output + File.pathSeparator + System.getProperty("java.class.path")));
+        if (!index) {
+            options.add("-proc:none");
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(files));
+            if (index) {
+                task.setProcessors(List.of(new BuilderIndexProcessor()));
+            }
+            assertTrue(task.call(), "compilation failed");
+        }
+    }
+
+    private static Set<String> readIndex(Path output) throws IOException {
+        return new TreeSet<>(Files.readAllLines(output.resolve(Builder.BUILDER_INDEX_RESOURCE), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,111 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.roaster.api.Any;
+
+class GenericTypeBuilderTest {
+
+    @XmlType
+    static class Leaf {
+        @XmlElement(required = true)
+        String name;
+    }
+
+    @XmlType
+    static class Tree {
+        @XmlElement(required = true)
+        Tree left;
+        @XmlElement(required = true)
+        Tree right;
+    }
+
+    @XmlType
+    static class Chain {
+        @XmlElement(required = true)
+        Chain next;
+        @XmlElement(required = true)
+        List<Leaf> leaves;
+    }
+
+    @Test
+    void shouldCountNestedTypesAndListElements() {
+        // given
+        GenericTypeBuilder<Chain> testObj = builder(Chain.class).withBudget(GenerationBudget.defaults().withMaxDepth(2).withMaxListSize(3));
+
+        // when
+        long actual = testObj.estimateNodeCount();
+
+        // then
+        // the chain is 3 nodes deep, the leaves of the last node would be below the depth limit
+        assertEquals(3 + 2 * 3, actual);
+    }
+
+    @Test
+    void shouldCountSharedSubtreesOnce() {
+        // given
+        GenericTypeBuilder<Tree> testObj = builder(Tree.class).withBudget(GenerationBudget.defaults().withMaxDepth(60));
+
+        // when
+        long actual = assertTimeoutPreemptively(Duration.ofSeconds(5), testObj::estimateNodeCount);
+
+        // then
+        assertEquals((1L << 61) - 1, actual);
+    }
+
+    @Test
+    void shouldStopAtMaxNodes() {
+        // given
+        GenericTypeBuilder<Chain> testObj = builder(Chain.class).withBudget(GenerationBudget.defaults().withMaxDepth(10_000_000).withMaxNodes(1_000));
+
+        // when
+        long actual = testObj.estimateNodeCount();
+
+        // then
+        assertEquals(1_000, actual);
+    }
+
+    @Test
+    void shouldSaturateUnboundedRecursiveType() {
+        // given
+        GenericTypeBuilder<Tree> testObj = builder(Tree.class).withBudget(GenerationBudget.defaults().withMaxNodes(50));
+
+        // when
+        long actual = testObj.estimateNodeCount();
+
+        // then
+        assertEquals(50, actual);
+    }
+
+    private static <T> GenericTypeBuilder<T> builder(Class<T> type) {
+        return GenericTypeBuilder.create(type, Any.createEntity(type));
+    }
+}
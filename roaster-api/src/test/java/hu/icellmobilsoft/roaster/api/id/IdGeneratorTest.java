@@ -0,0 +1,198 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.roaster.api.PreconditionFailException;
+
+class IdGeneratorTest {
+
+    @Test
+    void shouldPackTimestampNodeAndSequence() {
+        // given
+        IdGenerator testObj = new IdGenerator(IdGenerator.MAX_NODE);
+        long timestamp = 123_456_789L;
+        long sequence = 4095;
+
+        // when
+        long id = testObj.compose(timestamp << IdGenerator.SEQUENCE_BITS | sequence);
+
+        // then
+        assertEquals(timestamp + IdGenerator.EPOCH_MILLIS, IdGenerator.timestampOf(id));
+        assertEquals(IdGenerator.MAX_NODE, IdGenerator.nodeOf(id));
+        assertEquals(sequence, id & ((1 << IdGenerator.SEQUENCE_BITS) - 1));
+        assertEquals((timestamp << 22) | ((long) IdGenerator.MAX_NODE << 12) | sequence, id);
+    }
+
+    @Test
+    void shouldKeepNodeOutOfNeighbourBits() {
+        // given
+        IdGenerator testObj = new IdGenerator(0b1010101010);
+
+        // when
+        long id = testObj.compose(1L << IdGenerator.SEQUENCE_BITS);
+
+        // then
+        assertEquals(0b1010101010, IdGenerator.nodeOf(id));
+        assertEquals(1 + IdGenerator.EPOCH_MILLIS, IdGenerator.timestampOf(id));
+        assertEquals(0, id & 0xFFF);
+    }
+
+    @Test
+    void shouldGenerateIdOfCurrentTimeAndNode() {
+        // given
+        IdGenerator testObj = new IdGenerator(7);
+        long before = System.currentTimeMillis();
+
+        // when
+        long id = testObj.nextId();
+
+        // then
+        long after = System.currentTimeMillis();
+        assertTrue(IdGenerator.timestampOf(id) >= before && IdGenerator.timestampOf(id) <= after);
+        assertEquals(7, IdGenerator.nodeOf(id));
+        assertEquals(7, testObj.getNode());
+    }
+
+    @Test
+    void shouldGenerateIncreasingIds() {
+        // given
+        IdGenerator testObj = new IdGenerator(1);
+        long previous = testObj.nextId();
+
+        // then: more ids than the sequence of one millisecond
+        for (int i = 0; i < 100_000; i++) {
+            long id = testObj.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void shouldGenerateUniqueIdsInParallel() throws Exception {
+        // given
+        IdGenerator testObj = new IdGenerator(2);
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = testObj.nextId();
+                    }
+                    return ids;
+                }));
+            }
+
+            // when
+            Set<Long> ids = new HashSet<>();
+            for (Future<long[]> future : futures) {
+                for (long id : future.get()) {
+                    ids.add(id);
+                }
+            }
+
+            // then
+            assertEquals(threads * perThread, ids.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReserveConsecutiveRange() {
+        // given
+        IdGenerator testObj = new IdGenerator(3);
+
+        // when
+        IdRange range = testObj.reserve(5000);
+        long next = testObj.nextId();
+
+        // then
+        long[] ids = range.toArray();
+        assertEquals(5000, range.size());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i], range.get(i));
+            assertEquals(IdGenerator.toXId(ids[i]), range.getXId(i));
+            assertEquals(3, IdGenerator.nodeOf(ids[i]));
+            if (i > 0) {
+                assertTrue(ids[i] > ids[i - 1]);
+            }
+        }
+        assertTrue(next > ids[ids.length - 1]);
+        assertThrows(PreconditionFailException.class, () -> range.get(5000));
+    }
+
+    @Test
+    void shouldEncodeXIdAsPaddedBase36() {
+        assertEquals("0000000000000000", IdGenerator.toXId(0));
+        assertEquals("000000000000000Z", IdGenerator.toXId(35));
+        assertEquals("0000000000000010", IdGenerator.toXId(36));
+        assertEquals("0001Y2P0IJ32E8E7", IdGenerator.toXId(Long.MAX_VALUE));
+        assertEquals(IdGenerator.ID_LENGTH, IdGenerator.toXId(Long.MAX_VALUE).length());
+    }
+
+    @Test
+    void shouldDecodeXId() {
+        // given
+        IdGenerator testObj = new IdGenerator(4);
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            long id = testObj.nextId();
+            assertEquals(id, Long.parseLong(IdGenerator.toXId(id), 36));
+        }
+    }
+
+    @Test
+    void shouldKeepOrderOfIdsInXIds() {
+        // given
+        long[] ids = { 0, 1, 35, 36, 1295, 1296, 1L << 40, (1L << 40) + 1, Long.MAX_VALUE - 1, Long.MAX_VALUE };
+
+        // then
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(IdGenerator.toXId(ids[i - 1]).compareTo(IdGenerator.toXId(ids[i])) < 0);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidInput() {
+        assertThrows(PreconditionFailException.class, () -> new IdGenerator(-1));
+        assertThrows(PreconditionFailException.class, () -> new IdGenerator(IdGenerator.MAX_NODE + 1));
+        assertThrows(PreconditionFailException.class, () -> IdGenerator.toXId(-1));
+        assertThrows(PreconditionFailException.class, () -> new IdGenerator(0).reserve(0));
+    }
+}
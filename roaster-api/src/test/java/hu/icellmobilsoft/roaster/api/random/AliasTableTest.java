@@ -0,0 +1,96 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.roaster.api.PreconditionFailException;
+
+class AliasTableTest {
+
+    @Test
+    void shouldSampleProportionallyToWeights() {
+        // given
+        double[] weights = { 1, 2, 3, 4 };
+        AliasTable testObj = new AliasTable(weights);
+        RandomSource random = new SplittableRandomSource(Frequencies.SEED);
+
+        // when
+        double[] frequencies = Frequencies.of(testObj.size(), () -> testObj.sample(random));
+
+        // then
+        Frequencies.assertMatches(weights, frequencies);
+    }
+
+    @Test
+    void shouldSampleSkewedWeights() {
+        // given
+        double[] weights = { 1000, 1, 0.001, 1, 10, 0.5, 100, 3 };
+        AliasTable testObj = new AliasTable(weights);
+        RandomSource random = new SplittableRandomSource(Frequencies.SEED);
+
+        // when
+        double[] frequencies = Frequencies.of(testObj.size(), () -> testObj.sample(random));
+
+        // then
+        Frequencies.assertMatches(weights, frequencies);
+    }
+
+    @Test
+    void shouldNeverSampleZeroWeight() {
+        // given
+        double[] weights = { 0, 1, 0, 1, 0 };
+        AliasTable testObj = new AliasTable(weights);
+        RandomSource random = new SplittableRandomSource(Frequencies.SEED);
+
+        // when
+        double[] frequencies = Frequencies.of(testObj.size(), () -> testObj.sample(random));
+
+        // then
+        assertEquals(0, frequencies[0]);
+        assertEquals(0, frequencies[2]);
+        assertEquals(0, frequencies[4]);
+        Frequencies.assertMatches(weights, frequencies);
+    }
+
+    @Test
+    void shouldAlwaysSampleSingleIndex() {
+        // given
+        AliasTable testObj = new AliasTable(new double[] { 0.25 });
+        RandomSource random = new SplittableRandomSource(Frequencies.SEED);
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, testObj.sample(random));
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidWeights() {
+        assertThrows(PreconditionFailException.class, () -> new AliasTable(null));
+        assertThrows(PreconditionFailException.class, () -> new AliasTable(new double[0]));
+        assertThrows(PreconditionFailException.class, () -> new AliasTable(new double[] { 1, -1 }));
+        assertThrows(PreconditionFailException.class, () -> new AliasTable(new double[] { 1, Double.NaN }));
+        assertThrows(PreconditionFailException.class, () -> new AliasTable(new double[] { 0, 0 }));
+    }
+}
@@ -0,0 +1,161 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.IntToDoubleFunction;
+
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.roaster.api.PreconditionFailException;
+
+class DistributionsTest {
+
+    private static final int SIZE = 10;
+
+    @Test
+    void shouldSampleUniformly() {
+        // when
+        double[] frequencies = Frequencies.of(Distributions.uniform(), SIZE);
+
+        // then
+        Frequencies.assertMatches(weights(SIZE, i -> 1), frequencies);
+    }
+
+    @Test
+    void shouldSampleZipf() {
+        // when
+        double[] frequencies = Frequencies.of(Distributions.zipf(1.0), SIZE);
+
+        // then
+        Frequencies.assertMatches(weights(SIZE, i -> 1.0 / (i + 1)), frequencies);
+    }
+
+    @Test
+    void shouldSampleZipfWithExponent() {
+        // when
+        double[] frequencies = Frequencies.of(Distributions.zipf(2.5), SIZE);
+
+        // then
+        Frequencies.assertMatches(weights(SIZE, i -> 1 / Math.pow(i + 1, 2.5)), frequencies);
+    }
+
+    @Test
+    void shouldSampleLatestInReverseOrder() {
+        // when
+        double[] frequencies = Frequencies.of(Distributions.latest(1.0), SIZE);
+
+        // then
+        Frequencies.assertMatches(weights(SIZE, i -> 1.0 / (SIZE - i)), frequencies);
+        assertTrue(frequencies[SIZE - 1] > frequencies[0]);
+    }
+
+    @Test
+    void shouldReturnUniformForZeroExponent() {
+        assertSame(Distributions.uniform(), Distributions.zipf(0));
+        assertSame(Distributions.uniform(), Distributions.latest(0));
+    }
+
+    @Test
+    void shouldSplitHotspot() {
+        // when
+        double[] frequencies = Frequencies.of(Distributions.hotspot(0.2, 0.8), SIZE);
+
+        // then: 2 hot items share 80%, the 8 others 20%
+        Frequencies.assertMatches(weights(SIZE, i -> i < 2 ? 0.4 : 0.025), frequencies);
+    }
+
+    @Test
+    void shouldKeepAtLeastOneHotItem() {
+        // when
+        double[] frequencies = Frequencies.of(Distributions.hotspot(0.01, 0.5), SIZE);
+
+        // then
+        Frequencies.assertMatches(weights(SIZE, i -> i == 0 ? 0.5 : 0.5 / (SIZE - 1)), frequencies);
+    }
+
+    @Test
+    void shouldSampleUniformlyIfEveryItemIsHot() {
+        // when
+        double[] frequencies = Frequencies.of(Distributions.hotspot(1.0, 0.3), SIZE);
+
+        // then
+        Frequencies.assertMatches(weights(SIZE, i -> 1), frequencies);
+    }
+
+    @Test
+    void shouldSampleNormal() {
+        // when
+        double[] frequencies = Frequencies.of(Distributions.normal(0.5, 0.1), SIZE);
+
+        // then
+        Frequencies.assertMatches(weights(SIZE, i -> {
+            double z = ((i + 0.5) / SIZE - 0.5) / 0.1;
+            return Math.exp(-0.5 * z * z);
+        }), frequencies);
+        assertEquals(frequencies[4], frequencies[5], 0.01);
+    }
+
+    @Test
+    void shouldKeepFarTailSelectable() {
+        // when: every weight underflows, the minimal weight makes it uniform
+        double[] frequencies = Frequencies.of(Distributions.normal(100, 0.01), SIZE);
+
+        // then
+        Frequencies.assertMatches(weights(SIZE, i -> 1), frequencies);
+    }
+
+    @Test
+    void shouldSampleAlternatingSizes() {
+        // given
+        Distribution testObj = Distributions.zipf(1.0);
+        RandomSource random = new SplittableRandomSource(Frequencies.SEED);
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            int size = 1 + i % 100;
+            int index = testObj.sample(size, random);
+            assertTrue(index >= 0 && index < size, "index " + index + " out of size " + size);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidParameters() {
+        assertThrows(PreconditionFailException.class, () -> Distributions.zipf(-1));
+        assertThrows(PreconditionFailException.class, () -> Distributions.zipf(Double.POSITIVE_INFINITY));
+        assertThrows(PreconditionFailException.class, () -> Distributions.latest(Double.NaN));
+        assertThrows(PreconditionFailException.class, () -> Distributions.hotspot(1.5, 0.5));
+        assertThrows(PreconditionFailException.class, () -> Distributions.hotspot(0.5, -0.5));
+        assertThrows(PreconditionFailException.class, () -> Distributions.normal(0.5, 0));
+        assertThrows(PreconditionFailException.class, () -> Distributions.normal(Double.NaN, 0.1));
+    }
+
+    private static double[] weights(int size, IntToDoubleFunction weight) {
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = weight.applyAsDouble(i);
+        }
+        return weights;
+    }
+}
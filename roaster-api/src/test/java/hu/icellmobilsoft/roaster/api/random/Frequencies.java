@@ -0,0 +1,99 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Observed frequencies of sampled indexes, compared to the expected probabilities with a fixed seed
+ */
+final class Frequencies {
+
+    /**
+     * Seed of the statistical tests, the checks are deterministic
+     */
+    static final long SEED = 42L;
+
+    /**
+     * Number of samples of a statistical check
+     */
+    static final int SAMPLES = 200_000;
+
+    private Frequencies() {
+    }
+
+    /**
+     * Samples the distribution with a source seeded by {@link #SEED}
+     *
+     * @param distribution
+     *            distribution to sample
+     * @param size
+     *            size of the selection
+     * @return relative frequency of every index
+     */
+    static double[] of(Distribution distribution, int size) {
+        RandomSource random = new SplittableRandomSource(SEED);
+        return of(size, () -> distribution.sample(size, random));
+    }
+
+    /**
+     * Counts the sampled indexes
+     *
+     * @param size
+     *            number of the indexes
+     * @param sampler
+     *            returns an index, fails if it is out of range
+     * @return relative frequency of every index
+     */
+    static double[] of(int size, IntSupplier sampler) {
+        long[] counts = new long[size];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[sampler.getAsInt()]++;
+        }
+        double[] frequencies = new double[size];
+        for (int i = 0; i < size; i++) {
+            frequencies[i] = (double) counts[i] / SAMPLES;
+        }
+        return frequencies;
+    }
+
+    /**
+     * Asserts every frequency is within 5 standard deviations of the binomial count of its probability
+     *
+     * @param expected
+     *            probability of every index (normalized here)
+     * @param actual
+     *            observed frequencies
+     */
+    static void assertMatches(double[] expected, double[] actual) {
+        double sum = 0;
+        for (double weight : expected) {
+            sum += weight;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            double p = expected[i] / sum;
+            double tolerance = 5 * Math.sqrt(p * (1 - p) / SAMPLES) + 1d / SAMPLES;
+            assertTrue(Math.abs(actual[i] - p) <= tolerance,
+                    "index " + i + ": expected probability " + p + ", observed frequency " + actual[i] + " (tolerance " + tolerance + ")");
+        }
+    }
+}
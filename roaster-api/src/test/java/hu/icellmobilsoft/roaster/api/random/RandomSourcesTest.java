@@ -0,0 +1,129 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.roaster.api.Any;
+import hu.icellmobilsoft.roaster.api.dto.AnyDto;
+
+class RandomSourcesTest {
+
+    private static final long SEED = 42L;
+
+    /**
+     * More than one block of the bulk generators
+     */
+    private static final int BULK_SIZE = 300_000;
+
+    @Test
+    void shouldReplaySameSeed() {
+        // given
+        Supplier<List<Object>> values = () -> List.of(Any.anInt(), Any.aLong(), Any.aDouble(), Any.string(), Any.bool());
+        List<Object> expected = RandomSources.withSeed(SEED, values);
+
+        // when
+        List<Object> actual = RandomSources.withSeed(SEED, values);
+        List<Object> onOtherThread = CompletableFuture.supplyAsync(() -> RandomSources.withSeed(SEED, values)).join();
+        List<Object> otherSeed = RandomSources.withSeed(SEED + 1, values);
+
+        // then
+        assertEquals(expected, actual);
+        assertEquals(expected, onOtherThread);
+        assertNotEquals(expected, otherSeed);
+    }
+
+    @Test
+    void shouldRestoreEnclosingSource() {
+        // given
+        RandomSource unseeded = RandomSources.current();
+
+        // when
+        OptionalLong inner = RandomSources.withSeed(SEED, () -> RandomSources.withSeed(SEED + 1, RandomSources::seed));
+        OptionalLong outer = RandomSources.withSeed(SEED, RandomSources::seed);
+
+        // then
+        assertEquals(OptionalLong.of(SEED + 1), inner);
+        assertEquals(OptionalLong.of(SEED), outer);
+        assertSame(unseeded, RandomSources.current());
+        assertFalse(RandomSources.seed().isPresent());
+    }
+
+    @Test
+    void shouldFillParallelArraysLikeSequential() {
+        // when
+        // then
+        assertArrayEquals(RandomSources.withSeed(SEED, () -> Any.byteArray(BULK_SIZE, false)),
+                RandomSources.withSeed(SEED, () -> Any.byteArray(BULK_SIZE, true)));
+        assertArrayEquals(RandomSources.withSeed(SEED, () -> Any.intArray(BULK_SIZE, false)),
+                RandomSources.withSeed(SEED, () -> Any.intArray(BULK_SIZE, true)));
+        assertArrayEquals(RandomSources.withSeed(SEED, () -> Any.longArray(BULK_SIZE, false)),
+                RandomSources.withSeed(SEED, () -> Any.longArray(BULK_SIZE, true)));
+        assertArrayEquals(RandomSources.withSeed(SEED, () -> Any.doubleArray(BULK_SIZE, false)),
+                RandomSources.withSeed(SEED, () -> Any.doubleArray(BULK_SIZE, true)));
+        assertEquals(RandomSources.withSeed(SEED, () -> Any.directByteBuffer(BULK_SIZE, false)),
+                RandomSources.withSeed(SEED, () -> Any.directByteBuffer(BULK_SIZE, true)));
+        assertEquals(ByteBuffer.wrap(RandomSources.withSeed(SEED, () -> Any.byteArray(BULK_SIZE))),
+                RandomSources.withSeed(SEED, () -> Any.directByteBuffer(BULK_SIZE, true)));
+    }
+
+    @Test
+    void shouldReplaySeededArrays() {
+        // given
+        int[] expected = RandomSources.withSeed(SEED, () -> Any.intArray(BULK_SIZE, true));
+
+        // when
+        int[] actual = RandomSources.withSeed(SEED, () -> Any.intArray(BULK_SIZE, true));
+        int[] otherSeed = RandomSources.withSeed(SEED + 1, () -> Any.intArray(BULK_SIZE, true));
+
+        // then
+        assertArrayEquals(expected, actual);
+        assertFalse(Arrays.equals(expected, otherSeed));
+    }
+
+    @Test
+    void shouldGenerateParallelStreamLikeSequential() {
+        // given
+        List<String> expected = RandomSources.withSeed(SEED, () -> AnyDto.stream(String.class, 5_000).collect(Collectors.toList()));
+
+        // when
+        List<String> actual = RandomSources.withSeed(SEED, () -> AnyDto.stream(String.class, 5_000).parallel().collect(Collectors.toList()));
+        List<String> mapped = RandomSources.withSeed(SEED,
+                () -> AnyDto.stream(String.class).parallel().map(String::toUpperCase).limit(5_000).collect(Collectors.toList()));
+
+        // then
+        assertEquals(expected, actual);
+        assertEquals(expected.stream().map(String::toUpperCase).collect(Collectors.toList()), mapped);
+    }
+}
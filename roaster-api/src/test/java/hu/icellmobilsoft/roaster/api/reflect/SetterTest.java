@@ -0,0 +1,99 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.api.reflect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.Test;
+
+class SetterTest {
+
+    static class Sample {
+        private boolean flag;
+        private int count;
+        private long total;
+        private double ratio;
+        private String name;
+    }
+
+    @Test
+    void shouldSetPrimitiveFields() throws NoSuchFieldException {
+        // given
+        Sample testObj = new Sample();
+
+        // when
+        Setter.setValue(testObj, Sample.class.getDeclaredField("flag"), true);
+        Setter.setValue(testObj, Sample.class.getDeclaredField("count"), 42);
+        Setter.setValue(testObj, Sample.class.getDeclaredField("total"), Long.MAX_VALUE);
+        Setter.setValue(testObj, Sample.class.getDeclaredField("ratio"), 0.5d);
+
+        // then
+        assertEquals(true, testObj.flag);
+        assertEquals(42, testObj.count);
+        assertEquals(Long.MAX_VALUE, testObj.total);
+        assertEquals(0.5d, testObj.ratio);
+    }
+
+    @Test
+    void shouldWidenPrimitiveValue() throws NoSuchFieldException {
+        // given
+        Sample testObj = new Sample();
+
+        // when
+        Setter.setValue(testObj, Sample.class.getDeclaredField("total"), 7);
+        Setter.setValue(testObj, Sample.class.getDeclaredField("ratio"), 3L);
+
+        // then
+        assertEquals(7L, testObj.total);
+        assertEquals(3d, testObj.ratio);
+    }
+
+    @Test
+    void shouldRejectNarrowingPrimitiveValue() throws NoSuchFieldException {
+        // given
+        Sample testObj = new Sample();
+        Field field = Sample.class.getDeclaredField("count");
+
+        // when
+        // then
+        assertThrows(RuntimeException.class, () -> Setter.setValue(testObj, field, 7L));
+    }
+
+    @Test
+    void shouldShareAccessorOfFieldCopies() throws NoSuchFieldException {
+        // given
+        Field field = Sample.class.getDeclaredField("name");
+        Field copy = Sample.class.getDeclaredField("name");
+        Sample testObj = new Sample();
+
+        // when
+        FieldAccessor accessor = FieldAccessor.of(field);
+        Setter.setValue(testObj, copy, "name");
+
+        // then
+        assertSame(accessor, FieldAccessor.of(field));
+        assertSame(accessor, FieldAccessor.of(copy));
+        assertEquals("name", testObj.name);
+    }
+}
@@ -0,0 +1,153 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hu.icellmobilsoft.roaster.api.Any;
+import hu.icellmobilsoft.roaster.api.random.Distribution;
+import hu.icellmobilsoft.roaster.api.random.Distributions;
+import hu.icellmobilsoft.roaster.benchmark.dto.SampleStatus;
+
+/**
+ * Cost of the single value generators of {@link Any}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnyBenchmark {
+
+    private static final int STRING_LENGTH = 32;
+
+    private static final int ITEM_COUNT = 10_000;
+
+    private static final int ARRAY_SIZE = 1024;
+
+    private List<Integer> items;
+    private Distribution zipf;
+
+    /**
+     * Create the selection list and the skewed distribution
+     */
+    @Setup
+    public void setup() {
+        items = IntStream.range(0, ITEM_COUNT).boxed().collect(Collectors.toList());
+        zipf = Distributions.zipf(1.0);
+    }
+
+    /**
+     * @return random alphanumeric string
+     */
+    @Benchmark
+    public String string() {
+        return Any.string(STRING_LENGTH);
+    }
+
+    /**
+     * @return random e-mail address from the dictionaries
+     */
+    @Benchmark
+    public String emailAddress() {
+        return Any.emailAddress();
+    }
+
+    /**
+     * @return random city from the dictionary
+     */
+    @Benchmark
+    public String city() {
+        return Any.city();
+    }
+
+    /**
+     * @return unique id
+     */
+    @Benchmark
+    public String xId() {
+        return Any.xId();
+    }
+
+    /**
+     * @return random xml date time
+     */
+    @Benchmark
+    public XMLGregorianCalendar timestamp() {
+        return Any.timestamp();
+    }
+
+    /**
+     * @return uniformly selected item
+     */
+    @Benchmark
+    public Integer ofUniform() {
+        return Any.of(items);
+    }
+
+    /**
+     * @return Zipf selected item
+     */
+    @Benchmark
+    public Integer ofZipf() {
+        return Any.of(items, zipf);
+    }
+
+    /**
+     * @return random enum constant
+     */
+    @Benchmark
+    public SampleStatus enumItem() {
+        return Any.enumItem(SampleStatus.class);
+    }
+
+    /**
+     * @return random int array
+     */
+    @Benchmark
+    public int[] intArray() {
+        return Any.intArray(ARRAY_SIZE);
+    }
+
+    /**
+     * @return random byte array
+     */
+    @Benchmark
+    public byte[] byteArray() {
+        return Any.byteArray(ARRAY_SIZE);
+    }
+}
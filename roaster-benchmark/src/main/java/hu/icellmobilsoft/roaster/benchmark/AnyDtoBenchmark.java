@@ -0,0 +1,88 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hu.icellmobilsoft.roaster.api.dto.AnyDto;
+import hu.icellmobilsoft.roaster.benchmark.dto.SampleType;
+
+/**
+ * Cost of the bulk generators of {@link AnyDto}, per generated list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnyDtoBenchmark {
+
+    /**
+     * Number of the generated entities
+     */
+    @Param({ "100", "10000" })
+    public int size;
+
+    /**
+     * @return list of generated entities
+     */
+    @Benchmark
+    public List<SampleType> list() {
+        return AnyDto.list(SampleType.class, size);
+    }
+
+    /**
+     * @return list of entities collected from the lazy stream
+     */
+    @Benchmark
+    public List<SampleType> stream() {
+        return AnyDto.stream(SampleType.class, size).collect(Collectors.toList());
+    }
+
+    /**
+     * @return list of entities collected from the lazy stream in parallel
+     */
+    @Benchmark
+    public List<SampleType> parallelStream() {
+        return AnyDto.stream(SampleType.class, size).parallel().collect(Collectors.toList());
+    }
+
+    /**
+     * @return list of entities with distinct names
+     */
+    @Benchmark
+    public List<SampleType> uniqueList() {
+        return AnyDto.uniqueList(SampleType.class, SampleType::getName, size);
+    }
+}
@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hu.icellmobilsoft.roaster.api.dto.Builder;
+import hu.icellmobilsoft.roaster.benchmark.dto.SampleType;
+
+/**
+ * Cost of the {@link Builder} lookup, with and without building the entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuilderBenchmark {
+
+    /**
+     * Load the builder registry, so the one time classpath scan is not measured
+     */
+    @Setup
+    public void setup() {
+        Builder.has(SampleType.class);
+    }
+
+    /**
+     * @return whether the sample type has a registered builder
+     */
+    @Benchmark
+    public boolean has() {
+        return Builder.has(SampleType.class);
+    }
+
+    /**
+     * @return entity built by a new builder of the lookup
+     */
+    @Benchmark
+    public SampleType getAndBuild() {
+        return Builder.get(SampleType.class).build();
+    }
+}
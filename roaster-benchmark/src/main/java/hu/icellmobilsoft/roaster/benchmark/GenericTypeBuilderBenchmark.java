@@ -0,0 +1,75 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hu.icellmobilsoft.roaster.api.dto.GenericTypeBuilder;
+import hu.icellmobilsoft.roaster.api.dto.IBaseBuilder;
+import hu.icellmobilsoft.roaster.benchmark.dto.SampleType;
+
+/**
+ * Objects per second of the {@link GenericTypeBuilder} compared to the former per build reflective fill.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericTypeBuilderBenchmark {
+
+    private IBaseBuilder<SampleType> builder;
+
+    /**
+     * Create the builder of the sample type
+     */
+    @Setup
+    public void setup() {
+        builder = GenericTypeBuilder.create(SampleType.class, SampleType::new);
+    }
+
+    /**
+     * @return entity filled through the compiled fill plan
+     */
+    @Benchmark
+    public SampleType fillPlan() {
+        return builder.build();
+    }
+
+    /**
+     * @return entity filled through the reflective baseline
+     */
+    @Benchmark
+    public SampleType reflectiveBaseline() {
+        return ReflectiveFillBaseline.build(SampleType.class);
+    }
+}
@@ -0,0 +1,141 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlEnum;
+import jakarta.xml.bind.annotation.XmlSchemaType;
+import jakarta.xml.bind.annotation.XmlType;
+
+import hu.icellmobilsoft.coffee.tool.utils.date.DateXmlUtil;
+import hu.icellmobilsoft.roaster.api.Any;
+import hu.icellmobilsoft.roaster.api.Condition;
+
+/**
+ * The reflective field fill of the former {@code GenericTypeBuilder}: the fields and the XML annotations are read and every value is set by
+ * toggling the accessibility of the field on each call, like the former {@code Setter}. Kept only as the baseline of the comparison
+ * benchmarks.
+ */
+public final class ReflectiveFillBaseline {
+
+    private static final int MAX_STRING_LENGTH = 30;
+
+    private ReflectiveFillBaseline() {
+    }
+
+    /**
+     * Create and fill a new entity.
+     *
+     * @param <T>
+     *            the xsd type
+     * @param type
+     *            the xsd type
+     * @return the filled entity
+     */
+    public static <T> T build(Class<T> type) {
+        T entity = null;
+        try {
+            entity = type.getDeclaredConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            Condition.shouldNeverThrown(e);
+        }
+        fill(entity);
+        return entity;
+    }
+
+    private static void fill(Object entity) {
+        for (Field field : getAllFields(entity.getClass())) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            XmlElement xmlElement = field.getAnnotation(XmlElement.class);
+            XmlAttribute xmlAttribute = field.getAnnotation(XmlAttribute.class);
+            if ((xmlElement != null && xmlElement.required()) || (xmlAttribute != null && xmlAttribute.required())) {
+                Class<?> type = field.getType();
+                if (field.getAnnotation(XmlSchemaType.class) != null) {
+                    setValue(entity, field, DateXmlUtil.toXMLGregorianCalendar(Any.time()));
+                } else if (type.getAnnotation(XmlEnum.class) != null) {
+                    setValue(entity, field, Any.enumItem(type));
+                } else if (type.getAnnotation(XmlType.class) != null) {
+                    setValue(entity, field, build(type));
+                } else {
+                    setValue(entity, field, Any.string(MAX_STRING_LENGTH));
+                }
+            } else if (field.getType().isPrimitive()) {
+                setValue(entity, field, primitiveValue(field.getType()));
+            }
+        }
+    }
+
+    /**
+     * Set the field value the way the former {@code Setter} did: make the field accessible, set the value and revoke the access.
+     *
+     * @param entity
+     *            the entity object
+     * @param field
+     *            the field
+     * @param value
+     *            the value to set
+     */
+    public static void setValue(Object entity, Field field, Object value) {
+        field.setAccessible(true);
+        try {
+            field.set(entity, value);
+        } catch (IllegalAccessException e) {
+            Condition.shouldNeverThrown("Field should be accessible.", e);
+        }
+        field.setAccessible(false);
+    }
+
+    private static Object primitiveValue(Class<?> type) {
+        if (Boolean.TYPE.equals(type)) {
+            return Any.bool();
+        } else if (Byte.TYPE.equals(type)) {
+            return Any.aByte();
+        } else if (Short.TYPE.equals(type)) {
+            return Any.aShort();
+        } else if (Integer.TYPE.equals(type)) {
+            return Any.anInt();
+        } else if (Long.TYPE.equals(type)) {
+            return Any.aLong();
+        } else if (Float.TYPE.equals(type)) {
+            return Any.aFloat();
+        }
+        return Any.aDouble();
+    }
+
+    private static List<Field> getAllFields(Class<?> clazz) {
+        List<Field> result = new ArrayList<>();
+        Class<?> tmp = clazz;
+        while (tmp != Object.class) {
+            result.addAll(Arrays.asList(tmp.getDeclaredFields()));
+            tmp = tmp.getSuperclass();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Main class of the {@code benchmarks.jar}: runs the benchmarks with the standard JMH command line options, always adding the
+ * {@link GCProfiler}, so every result reports the allocation rate ({@code gc.alloc.rate.norm}: bytes per operation) next to the score.
+ *
+ * <pre>
+ * java -jar roaster-benchmark/target/benchmarks.jar AnyBenchmark -rf json -rff any.json
+ * </pre>
+ */
+public final class RoasterBenchmarks {
+
+    private RoasterBenchmarks() {
+    }
+
+    /**
+     * @param args
+     *            the JMH command line options, e.g. the benchmark name regexp, {@code -f}, {@code -wi}, {@code -i}, {@code -rf json}
+     * @throws RunnerException
+     *             if the benchmarks failed
+     * @throws IOException
+     *             if the benchmark list can not be read
+     * @throws CommandLineOptionException
+     *             if the options are invalid
+     */
+    public static void main(String[] args) throws RunnerException, IOException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats()) {
+            // the informational options are served by the standard main
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder().parent(commandLine).addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,108 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hu.icellmobilsoft.roaster.api.reflect.FieldAccessor;
+import hu.icellmobilsoft.roaster.api.reflect.Setter;
+import hu.icellmobilsoft.roaster.benchmark.dto.SampleType;
+
+/**
+ * Cost of one field write through {@link Setter} and {@link FieldAccessor} compared to the former accessibility toggling reflective write.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SetterBenchmark {
+
+    private static final String VALUE = "value";
+
+    private SampleType entity;
+    private Field nameField;
+    private Field counterField;
+    private FieldAccessor nameAccessor;
+    private int counter;
+
+    /**
+     * Resolve the fields of the sample type
+     *
+     * @throws NoSuchFieldException
+     *             if the sample type changed
+     */
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        entity = new SampleType();
+        nameField = SampleType.class.getDeclaredField("name");
+        counterField = SampleType.class.getDeclaredField("counter");
+        nameAccessor = FieldAccessor.of(nameField);
+    }
+
+    /**
+     * @return the entity after the write
+     */
+    @Benchmark
+    public SampleType setter() {
+        Setter.setValue(entity, nameField, VALUE);
+        return entity;
+    }
+
+    /**
+     * @return the entity after the write
+     */
+    @Benchmark
+    public SampleType setterPrimitive() {
+        Setter.setValue(entity, counterField, ++counter);
+        return entity;
+    }
+
+    /**
+     * @return the entity after the write
+     */
+    @Benchmark
+    public SampleType fieldAccessor() {
+        nameAccessor.set(entity, VALUE);
+        return entity;
+    }
+
+    /**
+     * @return the entity after the write
+     */
+    @Benchmark
+    public SampleType reflectiveBaseline() {
+        ReflectiveFillBaseline.setValue(entity, nameField, VALUE);
+        return entity;
+    }
+}
@@ -28,6 +28,21 @@ import hu.icellmobilsoft.coffee.dto.exception.BaseException;
  */
 public interface DBConfig {
 
+    /**
+     * Default number of rows fetched in one round trip by the queries returning many rows
+     */
+    int DEFAULT_FETCH_SIZE = 1000;
+
+    /**
+     * Default number of prepared statements cached per connection
+     */
+    int DEFAULT_STATEMENT_CACHE_SIZE = 50;
+
+    /**
+     * Default number of rows sent to the DB in one batch by the bulk loader
+     */
+    int DEFAULT_BATCH_SIZE = 1000;
+
     /**
      * <p>
      * getUrl.
@@ -70,4 +85,37 @@ public interface DBConfig {
      */
     int getMaximumPoolSize() throws BaseException;
 
+    /**
+     * Returns the number of rows fetched from the DB in one round trip by the queries returning many rows (the Oracle driver default is 10)
+     *
+     * @return the fetch size, {@value #DEFAULT_FETCH_SIZE} by default
+     * @throws BaseException
+     *             exception
+     */
+    default int getFetchSize() throws BaseException {
+        return DEFAULT_FETCH_SIZE;
+    }
+
+    /**
+     * Returns the number of prepared statements cached by the driver per connection, {@code 0} disables the cache
+     *
+     * @return the statement cache size, {@value #DEFAULT_STATEMENT_CACHE_SIZE} by default
+     * @throws BaseException
+     *             exception
+     */
+    default int getStatementCacheSize() throws BaseException {
+        return DEFAULT_STATEMENT_CACHE_SIZE;
+    }
+
+    /**
+     * Returns the number of rows sent to the DB in one batch (and committed together) by the bulk loader
+     *
+     * @return the batch size, {@value #DEFAULT_BATCH_SIZE} by default
+     * @throws BaseException
+     *             exception
+     */
+    default int getBatchSize() throws BaseException {
+        return DEFAULT_BATCH_SIZE;
+    }
+
 }
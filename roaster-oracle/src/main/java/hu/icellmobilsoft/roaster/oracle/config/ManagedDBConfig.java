@@ -83,6 +83,18 @@ public class ManagedDBConfig implements DBConfig {
      * Constant {@value}
      */
     public static final String MAXIMUM_POOL_SIZE = "maximumPoolSize";
+    /**
+     * Constant {@value}
+     */
+    public static final String FETCH_SIZE = "fetchSize";
+    /**
+     * Constant {@value}
+     */
+    public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
+    /**
+     * Constant {@value}
+     */
+    public static final String BATCH_SIZE = "batchSize";
     /**
      * Constant <code>KEY_DELIMITER="."</code>
      */
@@ -128,6 +140,21 @@ public class ManagedDBConfig implements DBConfig {
         return config.getOptionalValue(joinKey(MAXIMUM_POOL_SIZE), Integer.class).orElse(5);
     }
 
+    @Override
+    public int getFetchSize() {
+        return config.getOptionalValue(joinKey(FETCH_SIZE), Integer.class).orElse(DEFAULT_FETCH_SIZE);
+    }
+
+    @Override
+    public int getStatementCacheSize() {
+        return config.getOptionalValue(joinKey(STATEMENT_CACHE_SIZE), Integer.class).orElse(DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return config.getOptionalValue(joinKey(BATCH_SIZE), Integer.class).orElse(DEFAULT_BATCH_SIZE);
+    }
+
     /**
      * Getter for the field {@code configKey}.
      *
@@ -46,11 +46,14 @@ public class JDBCConnection implements Closeable {
 
     private static final String ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION = "Error occurred during DB connection! [{0}]";
     private static final String ERROR_MSG_DB_CONFIGURATION_NOT_SET = "DB configuration not set!";
+    private static final String ORACLE_IMPLICIT_STATEMENT_CACHE_SIZE = "oracle.jdbc.implicitStatementCacheSize";
 
     private final Logger log = Logger.getLogger(JDBCConnection.class);
 
+    private final Object dataSourceLock = new Object();
+
     private ManagedDBConfig config;
-    private HikariDataSource dataSource;
+    private volatile HikariDataSource dataSource;
 
     /**
      * Creates connection, using given configuration
@@ -60,9 +63,9 @@ public class JDBCConnection implements Closeable {
      *             exception
      */
     public Connection getConnection() throws BaseException {
-        initIfNeeded();
+        HikariDataSource initializedDataSource = initIfNeeded();
         try {
-            return dataSource.getConnection();
+            return initializedDataSource.getConnection();
         } catch (SQLException e) {
             String errorMsg = MessageFormat.format(ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION, e.getLocalizedMessage());
             log.error(errorMsg);
@@ -70,22 +73,80 @@ public class JDBCConnection implements Closeable {
         }
     }
 
-    private void initIfNeeded() throws TechnicalException {
+    /**
+     * Returns the number of rows fetched in one round trip by the queries returning many rows
+     *
+     * @return the fetch size of the configuration
+     * @throws BaseException
+     *             exception
+     */
+    public int getFetchSize() throws BaseException {
         if (Objects.isNull(config)) {
             throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, ERROR_MSG_DB_CONFIGURATION_NOT_SET);
         }
-        if (dataSource == null) {
-            log.trace("Creating dataSource. Url: [{0}], user: [{1}]", config.getUrl(), config.getUser());
-            dataSource = createDataSource();
+        return config.getFetchSize();
+    }
+
+    /**
+     * Returns the number of rows sent to the DB in one batch by the bulk loader
+     *
+     * @return the batch size of the configuration
+     * @throws BaseException
+     *             exception
+     */
+    public int getBatchSize() throws BaseException {
+        if (Objects.isNull(config)) {
+            throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, ERROR_MSG_DB_CONFIGURATION_NOT_SET);
         }
+        return config.getBatchSize();
     }
 
-    private HikariDataSource createDataSource() {
+    /**
+     * Returns the maximum size of the connection pool
+     *
+     * @return the maximum pool size of the configuration
+     * @throws BaseException
+     *             exception
+     */
+    public int getMaximumPoolSize() throws BaseException {
+        if (Objects.isNull(config)) {
+            throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, ERROR_MSG_DB_CONFIGURATION_NOT_SET);
+        }
+        return config.getMaximumPoolSize();
+    }
+
+    private HikariDataSource initIfNeeded() throws TechnicalException {
+        if (Objects.isNull(config)) {
+            throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, ERROR_MSG_DB_CONFIGURATION_NOT_SET);
+        }
+        HikariDataSource current = dataSource;
+        if (current == null) {
+            // double-checked, parallel first calls must not create (and leak) more than one pool
+            synchronized (dataSourceLock) {
+                current = dataSource;
+                if (current == null) {
+                    log.trace("Creating dataSource. Url: [{0}], user: [{1}]", config.getUrl(), config.getUser());
+                    current = createDataSource();
+                    dataSource = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Creates the connection pool of the configuration, called once per instance
+     *
+     * @return new connection pool
+     */
+    protected HikariDataSource createDataSource() {
         HikariConfig hikariConfig = new HikariConfig();
         hikariConfig.setJdbcUrl(config.getUrl());
         hikariConfig.setUsername(config.getUser());
         hikariConfig.setPassword(config.getPassword());
         hikariConfig.setMaximumPoolSize(config.getMaximumPoolSize());
+        // the driver keeps the closed prepared statements per connection, repeated queries skip the parse
+        hikariConfig.addDataSourceProperty(ORACLE_IMPLICIT_STATEMENT_CACHE_SIZE, String.valueOf(config.getStatementCacheSize()));
 
         return new HikariDataSource(hikariConfig);
     }
@@ -108,10 +169,22 @@ public class JDBCConnection implements Closeable {
      * @return true if connection is null, closed or error by checking
      */
     public boolean isClosed() {
-        if (Objects.isNull(dataSource)) {
+        HikariDataSource current = dataSource;
+        if (Objects.isNull(current)) {
             return true;
         }
-        return dataSource.isClosed();
+        return current.isClosed();
+    }
+
+    /**
+     * Check the connection pool was created and closed since, such an instance can not provide connections anymore. Unlike {@link #isClosed()}
+     * it is {@code false} before the first {@link #getConnection()}.
+     *
+     * @return true if the pool is closed
+     */
+    public boolean isShutdown() {
+        HikariDataSource current = dataSource;
+        return current != null && current.isClosed();
     }
 
     /**
@@ -119,9 +192,11 @@ public class JDBCConnection implements Closeable {
      */
     @Override
     public void close() {
-        if (!isClosed()) {
-            log.trace("Closing dataSource...");
-            dataSource.close();
+        synchronized (dataSourceLock) {
+            if (!isClosed()) {
+                log.trace("Closing dataSource...");
+                dataSource.close();
+            }
         }
     }
 }
@@ -0,0 +1,40 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.constatns;
+
+/**
+ * Ways of counting the rows of a select in {@code OracleJDBCSelectorService.selectRowCount}
+ *
+ * @since 2.1.0
+ */
+public enum RowCountModeEnum {
+
+    /**
+     * The select is wrapped as {@code SELECT COUNT(*) FROM (...)}, only the count is transferred
+     */
+    SERVER_COUNT,
+
+    /**
+     * The select is run with a scroll insensitive result set, the driver reads and caches every row to scroll to the last one. Only for selects
+     * which can not be wrapped into a sub query.
+     */
+    CLIENT_SCROLL,
+    ;
+}
@@ -21,9 +21,9 @@ package hu.icellmobilsoft.roaster.oracle.producer;
 
 import java.sql.Connection;
 import java.text.MessageFormat;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -50,7 +50,7 @@ public class DBConnectionProducer {
 
     private final Logger log = Logger.getLogger(DBConnectionProducer.class);
 
-    private final Map<String, JDBCConnection> connectionInstances = new HashMap<>();
+    private final ConcurrentMap<String, JDBCConnection> connectionInstances = new ConcurrentHashMap<>();
 
     /**
      * Creates or gets Connection for the given configKey
@@ -72,22 +72,33 @@ public class DBConnectionProducer {
     }
 
     /**
-     * Returns the Connection for the given configKey. Returned pools are cached by configKey. Synchronized in order to prevent creating multiple
-     * pools for the same connection.
+     * Returns the Connection for the given configKey. Returned pools are cached by configKey. An existing instance is returned without locking,
+     * creation (or replacing a closed one) locks only the given configKey, so exactly one pool is created per configKey.
      *
      * @param configKey
      *            config key
      * @return connection handler object
      */
-    private synchronized JDBCConnection getInstance(String configKey) {
+    JDBCConnection getInstance(String configKey) {
+        JDBCConnection existingConnection = connectionInstances.get(configKey);
+        if (existingConnection != null && !existingConnection.isShutdown()) {
+            return existingConnection;
+        }
         return connectionInstances.compute(configKey, this::getJdbcConnection);
     }
 
     private JDBCConnection getJdbcConnection(String configKey, JDBCConnection existingConnection) {
-        return existingConnection == null || existingConnection.isClosed() ? createConnection(configKey) : existingConnection;
+        return existingConnection == null || existingConnection.isShutdown() ? createConnection(configKey) : existingConnection;
     }
 
-    private JDBCConnection createConnection(String configKey) {
+    /**
+     * Creates the Connection of the given configKey, called with the configKey locked
+     *
+     * @param configKey
+     *            config key
+     * @return connection handler object, {@code null} on error
+     */
+    protected JDBCConnection createConnection(String configKey) {
         try {
             log.info("Creating DB connection for configKey: [{0}]", configKey);
             ManagedDBConfig managedDBConfig = CDI.current().select(ManagedDBConfig.class, new DBConnection.Literal(configKey)).get();
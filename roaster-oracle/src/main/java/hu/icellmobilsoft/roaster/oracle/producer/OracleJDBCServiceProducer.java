@@ -36,6 +36,7 @@ import hu.icellmobilsoft.coffee.se.logging.Logger;
 import hu.icellmobilsoft.coffee.tool.utils.annotation.AnnotationUtil;
 import hu.icellmobilsoft.roaster.oracle.annotation.DBConnection;
 import hu.icellmobilsoft.roaster.oracle.connection.JDBCConnection;
+import hu.icellmobilsoft.roaster.oracle.service.OracleJDBCBulkLoaderService;
 import hu.icellmobilsoft.roaster.oracle.service.OracleJDBCSelectorService;
 
 /**
@@ -61,19 +62,44 @@ public class OracleJDBCServiceProducer {
     @Produces
     @DBConnection(configKey = "")
     public OracleJDBCSelectorService getOracleJDBCSelectorService(InjectionPoint injectionPoint) throws BaseException {
+        JDBCConnection connection = getJdbcConnection(injectionPoint, OracleJDBCSelectorService.class);
+        log.trace("Creating OracleJDBCSelectorService...");
+        OracleJDBCSelectorService oracleJDBCSelectorService = CDI.current().select(OracleJDBCSelectorService.class).get();
+        oracleJDBCSelectorService.setJdbcConnection(connection);
+        return oracleJDBCSelectorService;
+    }
+
+    /**
+     * Produces OracleJDBCBulkLoaderService for the DB connection specified by the given configKey
+     *
+     * @param injectionPoint
+     *            CDI injection point
+     * @return created object
+     * @throws BaseException
+     *             exception
+     */
+    @Dependent
+    @Produces
+    @DBConnection(configKey = "")
+    public OracleJDBCBulkLoaderService getOracleJDBCBulkLoaderService(InjectionPoint injectionPoint) throws BaseException {
+        JDBCConnection connection = getJdbcConnection(injectionPoint, OracleJDBCBulkLoaderService.class);
+        log.trace("Creating OracleJDBCBulkLoaderService...");
+        OracleJDBCBulkLoaderService oracleJDBCBulkLoaderService = CDI.current().select(OracleJDBCBulkLoaderService.class).get();
+        oracleJDBCBulkLoaderService.setJdbcConnection(connection);
+        return oracleJDBCBulkLoaderService;
+    }
+
+    private JDBCConnection getJdbcConnection(InjectionPoint injectionPoint, Class<?> serviceClass) throws BaseException {
         Optional<DBConnection> annotation = AnnotationUtil.getAnnotation(injectionPoint, DBConnection.class);
         String configKey = annotation.map(DBConnection::configKey)
                 .orElseThrow(() -> new BaseException(CoffeeFaultType.INVALID_INPUT, "configKey value not found!"));
 
         JDBCConnection connection = CDI.current().select(JDBCConnection.class, new DBConnection.Literal(configKey)).get();
         if (connection != null) {
-            log.trace("Creating OracleJDBCSelectorService...");
-            OracleJDBCSelectorService oracleJDBCSelectorService = CDI.current().select(OracleJDBCSelectorService.class).get();
-            oracleJDBCSelectorService.setJdbcConnection(connection);
-            return oracleJDBCSelectorService;
+            return connection;
         }
         throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED,
-                MessageFormat.format("Error occurred while creating OracleJDBCSelectorService for configKey [{0}]!", configKey));
+                MessageFormat.format("Error occurred while creating {0} for configKey [{1}]!", serviceClass.getSimpleName(), configKey));
     }
 
     /**
@@ -88,4 +114,16 @@ public class OracleJDBCServiceProducer {
         }
     }
 
+    /**
+     * Close connection when disposed
+     * 
+     * @param oracleJDBCBulkLoaderService
+     *            disposed object
+     */
+    public void returnResource(@Disposes @DBConnection(configKey = "") OracleJDBCBulkLoaderService oracleJDBCBulkLoaderService) {
+        if (oracleJDBCBulkLoaderService != null) {
+            log.trace("Closing OracleJDBCBulkLoaderService...");
+        }
+    }
+
 }
@@ -0,0 +1,216 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import hu.icellmobilsoft.coffee.tool.common.FunctionalInterfaces;
+
+/**
+ * Description of a bulk load into one table for {@link OracleJDBCBulkLoaderService}: the target table and columns, the mapping of the source
+ * elements to column values, the source itself, and for merge the key columns. Immutable, the {@code with*} and {@code mergeOn} methods return a
+ * new instance.
+ *
+ * <pre>
+ * BulkLoad&lt;Example&gt; load = BulkLoad.into("EXAMPLE", (Example e) -&gt; new Object[] { e.getId(), e.getName() }, "X__ID", "NAME")
+ *         .mergeOn("X__ID")
+ *         .withRows(examples);
+ * </pre>
+ *
+ * @param <T>
+ *            type of the source elements
+ * @since 2.1.0
+ */
+public final class BulkLoad<T> {
+
+    private final String table;
+    private final List<String> columns;
+    private final List<String> keyColumns;
+    private final FunctionalInterfaces.BaseExceptionFunction<? super T, Object[]> rowMapper;
+    private final Stream<T> rows;
+
+    private BulkLoad(String table, List<String> columns, List<String> keyColumns,
+            FunctionalInterfaces.BaseExceptionFunction<? super T, Object[]> rowMapper, Stream<T> rows) {
+        this.table = table;
+        this.columns = columns;
+        this.keyColumns = keyColumns;
+        this.rowMapper = rowMapper;
+        this.rows = rows;
+    }
+
+    /**
+     * Insert of rows given as column values, in the order of the columns
+     *
+     * @param table
+     *            target table
+     * @param columns
+     *            target columns
+     * @return bulk load without rows
+     */
+    public static BulkLoad<Object[]> into(String table, String... columns) {
+        return into(table, row -> row, columns);
+    }
+
+    /**
+     * Insert of DTOs, mapped to column values by the given mapper
+     *
+     * @param table
+     *            target table
+     * @param rowMapper
+     *            returns the column values of an element, in the order of the columns
+     * @param columns
+     *            target columns
+     * @param <T>
+     *            type of the source elements
+     * @return bulk load without rows
+     */
+    public static <T> BulkLoad<T> into(String table, FunctionalInterfaces.BaseExceptionFunction<? super T, Object[]> rowMapper,
+            String... columns) {
+        return new BulkLoad<>(table, copy(columns), Collections.emptyList(), rowMapper, null);
+    }
+
+    /**
+     * Merge instead of insert: rows with existing key are updated, the others inserted
+     *
+     * @param keyColumns
+     *            columns identifying a row, must be among the target columns
+     * @return new bulk load merging on the given keys
+     */
+    public BulkLoad<T> mergeOn(String... keyColumns) {
+        return new BulkLoad<>(table, columns, copy(keyColumns), rowMapper, rows);
+    }
+
+    /**
+     * Source of the rows, consumed and closed by the load
+     *
+     * @param rows
+     *            source stream
+     * @return new bulk load with the given source
+     */
+    public BulkLoad<T> withRows(Stream<T> rows) {
+        return new BulkLoad<>(table, columns, keyColumns, rowMapper, rows);
+    }
+
+    /**
+     * Source of the rows
+     *
+     * @param rows
+     *            source elements
+     * @return new bulk load with the given source
+     */
+    public BulkLoad<T> withRows(Iterable<T> rows) {
+        return withRows(rows == null ? null : StreamSupport.stream(rows.spliterator(), false));
+    }
+
+    /**
+     * Returns the DML run for every row, {@code INSERT} or {@code MERGE} with {@code ?} placeholders in the order of the columns
+     *
+     * @return sql command
+     */
+    String toSql() {
+        String columnList = String.join(", ", columns);
+        if (!isMerge()) {
+            return "INSERT INTO " + table + " (" + columnList + ") VALUES (" + join(columns, c -> "?") + ")";
+        }
+        StringBuilder sql = new StringBuilder("MERGE INTO ").append(table).append(" dst USING (SELECT ")
+                .append(join(columns, c -> "? " + c))
+                .append(" FROM DUAL) src ON (")
+                .append(keyColumns.stream().map(c -> "dst." + c + " = src." + c).collect(Collectors.joining(" AND ")))
+                .append(')');
+        List<String> updated = columns.stream().filter(c -> !keyColumns.contains(c)).collect(Collectors.toList());
+        if (!updated.isEmpty()) {
+            sql.append(" WHEN MATCHED THEN UPDATE SET ").append(join(updated, c -> "dst." + c + " = src." + c));
+        }
+        return sql.append(" WHEN NOT MATCHED THEN INSERT (")
+                .append(columnList)
+                .append(") VALUES (")
+                .append(join(columns, c -> "src." + c))
+                .append(')')
+                .toString();
+    }
+
+    private static String join(List<String> columns, Function<String, String> mapper) {
+        return columns.stream().map(mapper).collect(Collectors.joining(", "));
+    }
+
+    private static List<String> copy(String[] values) {
+        return values == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(values.clone()));
+    }
+
+    /**
+     * Returns the target table
+     *
+     * @return table name
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the target columns
+     *
+     * @return unmodifiable list of column names
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the key columns of the merge
+     *
+     * @return unmodifiable list of column names, empty for insert
+     */
+    public List<String> getKeyColumns() {
+        return keyColumns;
+    }
+
+    /**
+     * Returns whether the rows are merged
+     *
+     * @return {@code true} if key columns are given
+     */
+    public boolean isMerge() {
+        return !keyColumns.isEmpty();
+    }
+
+    /**
+     * Returns the mapper of the source elements to column values
+     *
+     * @return row mapper
+     */
+    public FunctionalInterfaces.BaseExceptionFunction<? super T, Object[]> getRowMapper() {
+        return rowMapper;
+    }
+
+    /**
+     * Returns the source of the rows
+     *
+     * @return source stream, {@code null} if not set
+     */
+    public Stream<T> getRows() {
+        return rows;
+    }
+}
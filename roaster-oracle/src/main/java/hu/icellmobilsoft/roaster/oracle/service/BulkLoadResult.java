@@ -0,0 +1,105 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a {@link BulkLoad}: loaded rows, executed batches and elapsed time
+ *
+ * @since 2.1.0
+ */
+public final class BulkLoadResult {
+
+    private final String table;
+    private final long rows;
+    private final int batches;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor
+     *
+     * @param table
+     *            target table
+     * @param rows
+     *            number of loaded rows
+     * @param batches
+     *            number of executed batches
+     * @param elapsedNanos
+     *            duration of the load in nanoseconds
+     */
+    public BulkLoadResult(String table, long rows, int batches, long elapsedNanos) {
+        this.table = table;
+        this.rows = rows;
+        this.batches = batches;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the target table
+     *
+     * @return table name
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the number of loaded (inserted or merged) rows
+     *
+     * @return row count
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of batches sent to the DB
+     *
+     * @return batch count
+     */
+    public int getBatches() {
+        return batches;
+    }
+
+    /**
+     * Returns the duration of the load, from opening the connection to the last commit
+     *
+     * @return elapsed time
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * Returns the throughput of the load
+     *
+     * @return loaded rows per second
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * 1_000_000_000d / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkLoadResult [table=" + table + ", rows=" + rows + ", batches=" + batches + ", elapsed=" + getElapsed().toMillis()
+                + " ms, rowsPerSecond=" + Math.round(getRowsPerSecond()) + "]";
+    }
+}
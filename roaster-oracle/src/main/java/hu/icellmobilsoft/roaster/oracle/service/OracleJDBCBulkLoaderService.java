@@ -0,0 +1,258 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.apache.commons.lang3.StringUtils;
+
+import hu.icellmobilsoft.coffee.dto.exception.BaseException;
+import hu.icellmobilsoft.coffee.dto.exception.TechnicalException;
+import hu.icellmobilsoft.coffee.dto.exception.enums.CoffeeFaultType;
+import hu.icellmobilsoft.coffee.se.logging.Logger;
+import hu.icellmobilsoft.roaster.oracle.connection.JDBCConnection;
+
+/**
+ * Bulk insert and merge of fixture data. The rows are sent in JDBC batches of {@code batchSize} rows ({@link JDBCConnection#getBatchSize()}), the
+ * Oracle driver executes a batch as one array DML round trip, and every batch is committed separately.
+ *
+ * @since 2.1.0
+ */
+@Dependent
+public class OracleJDBCBulkLoaderService {
+
+    private static final String ERROR_MSG_LOAD_IS_NULL = "Input parameter load is null!";
+    private static final String ERROR_MSG_LOADS_ARE_EMPTY = "Input parameter loads is empty!";
+    private static final String ERROR_MSG_TABLE_IS_BLANK = "Table of the bulk load is blank!";
+    private static final String ERROR_MSG_COLUMNS_ARE_EMPTY = "Columns of the bulk load into [{0}] are empty!";
+    private static final String ERROR_MSG_ROW_MAPPER_IS_NULL = "Row mapper of the bulk load into [{0}] is null!";
+    private static final String ERROR_MSG_ROWS_ARE_NULL = "Rows of the bulk load into [{0}] are not set!";
+    private static final String ERROR_MSG_KEY_COLUMN_NOT_LOADED = "Key column [{0}] is not among the columns of the bulk load into [{1}]!";
+    private static final String ERROR_MSG_INVALID_ROW = "Row [{0}] of the bulk load into [{1}] has [{2}] values, [{3}] expected!";
+    private static final String ERROR_MSG_BULK_LOAD_FAILED = "Bulk load into [{0}] failed, [{1}] rows committed!";
+    private static final String ERROR_MSG_BULK_LOAD_INTERRUPTED = "Bulk load interrupted!";
+
+    private final Logger log = Logger.getLogger(OracleJDBCBulkLoaderService.class);
+
+    private JDBCConnection jdbcConnection;
+
+    /**
+     * Loads the rows of the given bulk load on one pooled connection
+     *
+     * @param load
+     *            bulk load with rows
+     * @return result of the load
+     * @throws BaseException
+     *             invalid load, or DB error (the batches committed before it remain in the table)
+     */
+    public BulkLoadResult load(BulkLoad<?> load) throws BaseException {
+        validate(load);
+        return execute(load);
+    }
+
+    /**
+     * Loads the given bulk loads in parallel, each on its own pooled connection, at most {@code maximumPoolSize} at a time. The loads have to be
+     * independent (e.g. different tables without foreign keys between them), each of them commits separately.
+     *
+     * @param loads
+     *            bulk loads with rows
+     * @return results in the order of the loads
+     * @throws BaseException
+     *             invalid load, or the first failure of the loads (the others are cancelled: they stop at their next row and roll back
+     *             their uncommitted batch)
+     */
+    public List<BulkLoadResult> loadParallel(BulkLoad<?>... loads) throws BaseException {
+        return loadParallel(loads == null ? null : Arrays.asList(loads));
+    }
+
+    /**
+     * Loads the given bulk loads in parallel, each on its own pooled connection, at most {@code maximumPoolSize} at a time. The loads have to be
+     * independent (e.g. different tables without foreign keys between them), each of them commits separately.
+     *
+     * @param loads
+     *            bulk loads with rows
+     * @return results in the order of the loads
+     * @throws BaseException
+     *             invalid load, or the first failure of the loads (the others are cancelled: they stop at their next row and roll back
+     *             their uncommitted batch)
+     */
+    public List<BulkLoadResult> loadParallel(List<BulkLoad<?>> loads) throws BaseException {
+        if (loads == null || loads.isEmpty()) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_LOADS_ARE_EMPTY);
+        }
+        for (BulkLoad<?> load : loads) {
+            validate(load);
+        }
+        int threads = Math.max(1, Math.min(loads.size(), jdbcConnection.getMaximumPoolSize()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // results are taken in completion order, so the first failure cancels the others at once
+            CompletionService<IndexedResult> completionService = new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < loads.size(); i++) {
+                int index = i;
+                BulkLoad<?> load = loads.get(i);
+                completionService.submit(() -> new IndexedResult(index, execute(load)));
+            }
+            BulkLoadResult[] results = new BulkLoadResult[loads.size()];
+            for (int i = 0; i < loads.size(); i++) {
+                IndexedResult result = completionService.take().get();
+                results[result.index] = result.result;
+            }
+            return Arrays.asList(results);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, ERROR_MSG_BULK_LOAD_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BaseException) {
+                throw (BaseException) e.getCause();
+            }
+            throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, e.getCause().getLocalizedMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void validate(BulkLoad<?> load) throws BaseException {
+        if (load == null) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_LOAD_IS_NULL);
+        }
+        if (StringUtils.isBlank(load.getTable())) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_TABLE_IS_BLANK);
+        }
+        if (load.getColumns().isEmpty()) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, MessageFormat.format(ERROR_MSG_COLUMNS_ARE_EMPTY, load.getTable()));
+        }
+        if (load.getRowMapper() == null) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, MessageFormat.format(ERROR_MSG_ROW_MAPPER_IS_NULL, load.getTable()));
+        }
+        if (load.getRows() == null) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, MessageFormat.format(ERROR_MSG_ROWS_ARE_NULL, load.getTable()));
+        }
+        for (String keyColumn : load.getKeyColumns()) {
+            if (!load.getColumns().contains(keyColumn)) {
+                throw new BaseException(CoffeeFaultType.INVALID_INPUT, MessageFormat.format(ERROR_MSG_KEY_COLUMN_NOT_LOADED, keyColumn, load.getTable()));
+            }
+        }
+    }
+
+    private <T> BulkLoadResult execute(BulkLoad<T> load) throws BaseException {
+        int batchSize = Math.max(1, jdbcConnection.getBatchSize());
+        int columnCount = load.getColumns().size();
+        long start = System.nanoTime();
+        long rows = 0;
+        long committed = 0;
+        int batches = 0;
+        try (Stream<T> source = load.getRows(); Connection connection = jdbcConnection.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement stmt = connection.prepareStatement(load.toSql())) {
+                Iterator<T> iterator = source.iterator();
+                while (iterator.hasNext()) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new TechnicalException(CoffeeFaultType.OPERATION_FAILED, ERROR_MSG_BULK_LOAD_INTERRUPTED);
+                    }
+                    Object[] row = load.getRowMapper().apply(iterator.next());
+                    if (row == null || row.length != columnCount) {
+                        throw new BaseException(CoffeeFaultType.INVALID_INPUT,
+                                MessageFormat.format(ERROR_MSG_INVALID_ROW, rows, load.getTable(), row == null ? 0 : row.length, columnCount));
+                    }
+                    StatementParameters.bind(stmt, row);
+                    stmt.addBatch();
+                    if (++rows % batchSize == 0) {
+                        stmt.executeBatch();
+                        connection.commit();
+                        committed = rows;
+                        batches++;
+                    }
+                }
+                if (rows > committed) {
+                    stmt.executeBatch();
+                    connection.commit();
+                    committed = rows;
+                    batches++;
+                }
+            } catch (SQLException | BaseException | RuntimeException e) {
+                rollback(connection, e);
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED, MessageFormat.format(ERROR_MSG_BULK_LOAD_FAILED, load.getTable(), committed),
+                    e);
+        }
+        BulkLoadResult result = new BulkLoadResult(load.getTable(), rows, batches, System.nanoTime() - start);
+        log.info("Loaded [{0}] rows into [{1}] in [{2}] ms, [{3}] rows/s", result.getRows(), result.getTable(), result.getElapsed().toMillis(),
+                Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    private void rollback(Connection connection, Exception cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static final class IndexedResult {
+
+        private final int index;
+        private final BulkLoadResult result;
+
+        private IndexedResult(int index, BulkLoadResult result) {
+            this.index = index;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Getter for the field {@code jdbcConnection}.
+     *
+     * @return jdbcConnection
+     */
+    protected JDBCConnection getJdbcConnection() {
+        return jdbcConnection;
+    }
+
+    /**
+     * Sets the new jdbcConnection value
+     *
+     * @param jdbcConnection
+     *            new jdbcConnection value
+     */
+    public void setJdbcConnection(JDBCConnection jdbcConnection) {
+        this.jdbcConnection = jdbcConnection;
+    }
+}
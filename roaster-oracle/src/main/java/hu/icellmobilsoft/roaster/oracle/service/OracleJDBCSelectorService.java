@@ -21,14 +21,16 @@ package hu.icellmobilsoft.roaster.oracle.service;
 
 import java.math.BigDecimal;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.enterprise.context.Dependent;
 
@@ -41,6 +43,7 @@ import hu.icellmobilsoft.coffee.dto.exception.enums.CoffeeFaultType;
 import hu.icellmobilsoft.coffee.se.logging.Logger;
 import hu.icellmobilsoft.coffee.tool.common.FunctionalInterfaces;
 import hu.icellmobilsoft.roaster.oracle.connection.JDBCConnection;
+import hu.icellmobilsoft.roaster.oracle.constatns.RowCountModeEnum;
 
 /**
  * Class representing Oracle JDBC functionality
@@ -55,8 +58,12 @@ public class OracleJDBCSelectorService {
     private static final String ERROR_MSG_SQL_STRING_IS_BLANK = "Input parameter SQL string is blank!";
     private static final String ERROR_MSG_COLUMN_NAME_IS_BLANK = "Input parameter columnName is blank!";
     private static final String ERROR_MSG_CONVERTER_IS_NULL = "Input parameter converter is null!";
+    private static final String ERROR_MSG_ROW_HANDLER_IS_NULL = "Input parameter rowHandler is null!";
+    private static final String ERROR_MSG_ROW_COUNT_MODE_IS_NULL = "Input parameter mode is null!";
     private static final String ERROR_MSG_COULD_NOT_RETRIEVE_COLUMN_VALUE = "Could not retrieve column [{0}] value!";
 
+    private static final Object[] NO_PARAMS = {};
+
     private final Logger log = Logger.getLogger(OracleJDBCSelectorService.class);
 
     private JDBCConnection jdbcConnection;
@@ -73,7 +80,24 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public String selectFirstStringValue(String sql, String columnName) throws BaseException {
-        return getFirstValue(sql, columnName, this::getStringColumnValue);
+        return selectFirstStringValue(sql, columnName, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and return given column String value
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param columnName
+     *            column name
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @return column String value
+     * @throws BaseException
+     *             exception
+     */
+    public String selectFirstStringValue(String sql, String columnName, Object... params) throws BaseException {
+        return getFirstValue(sql, columnName, params, this::getStringColumnValue);
     }
 
     /**
@@ -88,7 +112,24 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public Integer selectFirstIntegerValue(String sql, String columnName) throws BaseException {
-        return getFirstValue(sql, columnName, this::getIntegerColumnValue);
+        return selectFirstIntegerValue(sql, columnName, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and return given column Integer value
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param columnName
+     *            column name
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @return column Integer value
+     * @throws BaseException
+     *             exception
+     */
+    public Integer selectFirstIntegerValue(String sql, String columnName, Object... params) throws BaseException {
+        return getFirstValue(sql, columnName, params, this::getIntegerColumnValue);
     }
 
     /**
@@ -103,7 +144,24 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public Boolean selectFirstBooleanValue(String sql, String columnName) throws BaseException {
-        return getFirstValue(sql, columnName, this::getBooleanColumnValue);
+        return selectFirstBooleanValue(sql, columnName, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and return given column Boolean value
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param columnName
+     *            column name
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @return column Boolean value
+     * @throws BaseException
+     *             exception
+     */
+    public Boolean selectFirstBooleanValue(String sql, String columnName, Object... params) throws BaseException {
+        return getFirstValue(sql, columnName, params, this::getBooleanColumnValue);
     }
 
     /**
@@ -118,7 +176,24 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public BigDecimal selectFirstBigDecimalValue(String sql, String columnName) throws BaseException {
-        return getFirstValue(sql, columnName, this::getBigDecimalColumnValue);
+        return selectFirstBigDecimalValue(sql, columnName, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and return given column BigDecimal value
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param columnName
+     *            column name
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @return column BigDecimal value
+     * @throws BaseException
+     *             exception
+     */
+    public BigDecimal selectFirstBigDecimalValue(String sql, String columnName, Object... params) throws BaseException {
+        return getFirstValue(sql, columnName, params, this::getBigDecimalColumnValue);
     }
 
     /**
@@ -133,11 +208,28 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public Date selectFirstDateValue(String sql, String columnName) throws BaseException {
-        return getFirstValue(sql, columnName, this::getDateColumnValue);
+        return selectFirstDateValue(sql, columnName, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and return given column Date value
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param columnName
+     *            column name
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @return column Date value
+     * @throws BaseException
+     *             exception
+     */
+    public Date selectFirstDateValue(String sql, String columnName, Object... params) throws BaseException {
+        return getFirstValue(sql, columnName, params, this::getDateColumnValue);
     }
 
     /**
-     * Run sql select command, and return row count
+     * Run sql select command, and return row count counted by the DB ({@link RowCountModeEnum#SERVER_COUNT})
      *
      * @param sql
      *            sql command
@@ -146,12 +238,76 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public Integer selectRowCount(String sql) throws BaseException {
+        return selectRowCount(sql, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and return row count counted by the DB ({@link RowCountModeEnum#SERVER_COUNT})
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @return row count
+     * @throws BaseException
+     *             exception
+     */
+    public Integer selectRowCount(String sql, Object... params) throws BaseException {
+        return selectRowCount(sql, RowCountModeEnum.SERVER_COUNT, params);
+    }
+
+    /**
+     * Run sql select command, and return row count counted in the given mode
+     *
+     * @param sql
+     *            sql command
+     * @param mode
+     *            counting mode
+     * @return row count
+     * @throws BaseException
+     *             exception
+     */
+    public Integer selectRowCount(String sql, RowCountModeEnum mode) throws BaseException {
+        return selectRowCount(sql, mode, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and return row count counted in the given mode
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param mode
+     *            counting mode
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @return row count
+     * @throws BaseException
+     *             exception
+     */
+    public Integer selectRowCount(String sql, RowCountModeEnum mode, Object... params) throws BaseException {
         if (StringUtils.isBlank(sql)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
         }
+        if (mode == null) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_ROW_COUNT_MODE_IS_NULL);
+        }
+        if (mode == RowCountModeEnum.CLIENT_SCROLL) {
+            return scrollRowCount(sql, params);
+        }
+        try (Connection connection = jdbcConnection.getConnection();
+                PreparedStatement stmt = prepare(connection, countSql(sql), ResultSet.TYPE_FORWARD_ONLY, 0, params);
+                ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        } catch (SQLException e) {
+            throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED, ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION, e);
+        }
+    }
+
+    private Integer scrollRowCount(String sql, Object[] params) throws BaseException {
         try (Connection connection = jdbcConnection.getConnection();
-                Statement stmt = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = prepare(connection, sql, ResultSet.TYPE_SCROLL_INSENSITIVE, 0, params);
+                ResultSet rs = stmt.executeQuery()) {
             rs.last();
             return rs.getRow();
         } catch (SQLException e) {
@@ -159,6 +315,19 @@ public class OracleJDBCSelectorService {
         }
     }
 
+    /**
+     * Wraps the select into a count sub query, a trailing {@code ;} is dropped. The closing parenthesis goes to a new line, so that a trailing
+     * {@code --} line comment of the select does not comment it out.
+     *
+     * @param sql
+     *            sql select command
+     * @return count sql command
+     */
+    static String countSql(String sql) {
+        String select = StringUtils.stripEnd(StringUtils.removeEnd(StringUtils.stripEnd(sql, null), ";"), null);
+        return "SELECT COUNT(*) FROM (" + select + "\n)";
+    }
+
     /**
      * Run sql select command, and return desired result object, converted by given converter
      * <p>
@@ -186,6 +355,38 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public <T> T selectFirstObject(String sql, FunctionalInterfaces.BaseExceptionFunction<ResultSet, T> converter) throws BaseException {
+        return selectFirstObject(sql, converter, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and return desired result object, converted by given converter
+     * <p>
+     * Example for converter: <code>
+     * private T convert(ResultSet rs) {
+     * try {
+     * T t = new T();
+     * t.setId(rs.getString("X__ID"));
+     * t.setName(rs.getString("NAME"));
+     * return t;
+     * } catch (SQLException e) {
+     * return null;
+     * }
+     * }
+     * </code>
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param converter
+     *            converter for desired result object
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @param <T>
+     *            type of return object
+     * @return converted object
+     * @throws BaseException
+     *             exception
+     */
+    public <T> T selectFirstObject(String sql, FunctionalInterfaces.BaseExceptionFunction<ResultSet, T> converter, Object... params) throws BaseException {
         if (StringUtils.isBlank(sql)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
         }
@@ -193,8 +394,8 @@ public class OracleJDBCSelectorService {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_CONVERTER_IS_NULL);
         }
         try (Connection connection = jdbcConnection.getConnection();
-                Statement stmt = connection.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = prepare(connection, sql, ResultSet.TYPE_FORWARD_ONLY, 0, params);
+                ResultSet rs = stmt.executeQuery()) {
             if (rs.next()) {
                 return converter.apply(rs);
             } else {
@@ -232,6 +433,38 @@ public class OracleJDBCSelectorService {
      *             exception
      */
     public <T> List<T> selectAllObjects(String sql, FunctionalInterfaces.BaseExceptionFunction<ResultSet, T> converter) throws BaseException {
+        return selectAllObjects(sql, converter, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and return list of desired result objects, converted by given converter
+     * <p>
+     * Example for converter: <code>
+     * private T convert(ResultSet rs) {
+     * try {
+     * T t = new T();
+     * t.setId(rs.getString("X__ID"));
+     * t.setName(rs.getString("NAME"));
+     * return t;
+     * } catch (SQLException e) {
+     * return null;
+     * }
+     * }
+     * </code>
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param converter
+     *            converter for desired result objects
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @param <T>
+     *            type of return objects
+     * @return list of converted objects
+     * @throws BaseException
+     *             exception
+     */
+    public <T> List<T> selectAllObjects(String sql, FunctionalInterfaces.BaseExceptionFunction<ResultSet, T> converter, Object... params) throws BaseException {
         if (StringUtils.isBlank(sql)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
         }
@@ -239,8 +472,8 @@ public class OracleJDBCSelectorService {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_CONVERTER_IS_NULL);
         }
         try (Connection connection = jdbcConnection.getConnection();
-                Statement stmt = connection.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = prepare(connection, sql, ResultSet.TYPE_FORWARD_ONLY, jdbcConnection.getFetchSize(), params);
+                ResultSet rs = stmt.executeQuery()) {
             List<T> resultList = new ArrayList<>();
             while (rs.next()) {
                 resultList.add(converter.apply(rs));
@@ -251,8 +484,164 @@ public class OracleJDBCSelectorService {
         }
     }
 
-    private <T> T getFirstValue(String sql, String columnName, FunctionalInterfaces.BaseExceptionFunction2<ResultSet, String, T> function)
-            throws BaseException {
+    /**
+     * Run sql select command, and return the lazy stream of the result objects, converted by given converter. The rows are fetched in chunks
+     * of the configured fetch size ({@link hu.icellmobilsoft.roaster.oracle.config.DBConfig#getFetchSize()}) while the stream is consumed, so
+     * big tables can be verified in constant memory.
+     * <p>
+     * The stream holds a pooled connection until the last row is read, so it has to be closed if it is not consumed to the end:
+     *
+     * <pre>
+     * try (Stream&lt;Example&gt; examples = service.streamAllObjects("SELECT * FROM EXAMPLE", exampleConverter::convert)) {
+     *     long invalid = examples.filter(e -&gt; e.getName() == null).count();
+     * }
+     * </pre>
+     *
+     * A failure during the iteration (DB error or {@code BaseException} of the converter) is thrown as an unchecked
+     * {@link hu.icellmobilsoft.roaster.api.TestException} with the original cause.
+     *
+     * @param sql
+     *            sql command
+     * @param converter
+     *            converter for desired result objects
+     * @param <T>
+     *            type of the stream elements
+     * @return lazy, sequential stream of the converted objects, releasing the DB resources on close
+     * @throws BaseException
+     *             if the query could not be executed
+     */
+    public <T> Stream<T> streamAllObjects(String sql, FunctionalInterfaces.BaseExceptionFunction<ResultSet, T> converter) throws BaseException {
+        return streamAllObjects(sql, converter, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and return the lazy stream of the result objects, converted by given converter. The rows are fetched in chunks
+     * of the configured fetch size ({@link hu.icellmobilsoft.roaster.oracle.config.DBConfig#getFetchSize()}) while the stream is consumed, so
+     * big tables can be verified in constant memory.
+     * <p>
+     * The stream holds a pooled connection until the last row is read, so it has to be closed if it is not consumed to the end:
+     *
+     * <pre>
+     * try (Stream&lt;Example&gt; examples = service.streamAllObjects("SELECT * FROM EXAMPLE", exampleConverter::convert)) {
+     *     long invalid = examples.filter(e -&gt; e.getName() == null).count();
+     * }
+     * </pre>
+     *
+     * A failure during the iteration (DB error or {@code BaseException} of the converter) is thrown as an unchecked
+     * {@link hu.icellmobilsoft.roaster.api.TestException} with the original cause.
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param converter
+     *            converter for desired result objects
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @param <T>
+     *            type of the stream elements
+     * @return lazy, sequential stream of the converted objects, releasing the DB resources on close
+     * @throws BaseException
+     *             if the query could not be executed
+     */
+    public <T> Stream<T> streamAllObjects(String sql, FunctionalInterfaces.BaseExceptionFunction<ResultSet, T> converter, Object... params) throws BaseException {
+        if (StringUtils.isBlank(sql)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
+        }
+        if (Objects.isNull(converter)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_CONVERTER_IS_NULL);
+        }
+        int fetchSize = jdbcConnection.getFetchSize();
+        Connection connection = jdbcConnection.getConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            stmt = prepare(connection, sql, ResultSet.TYPE_FORWARD_ONLY, fetchSize, params);
+            rs = stmt.executeQuery();
+        } catch (SQLException e) {
+            ResultSetSpliterator.closeQuietly(rs, stmt, connection);
+            throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED, ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION, e);
+        } catch (RuntimeException e) {
+            ResultSetSpliterator.closeQuietly(rs, stmt, connection);
+            throw e;
+        }
+        ResultSetSpliterator<T> spliterator = new ResultSetSpliterator<>(connection, stmt, rs, converter);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Run sql select command, and call the row handler for every row of the result. The rows are fetched in chunks of the configured fetch
+     * size ({@link hu.icellmobilsoft.roaster.oracle.config.DBConfig#getFetchSize()}), nothing is collected, so big tables can be verified in
+     * constant memory.
+     *
+     * @param sql
+     *            sql command
+     * @param rowHandler
+     *            handler of the current row of the result set, it must not move the cursor
+     * @return the number of the handled rows
+     * @throws BaseException
+     *             exception, or the exception of the row handler
+     */
+    public long forEachRow(String sql, FunctionalInterfaces.BaseExceptionConsumer<ResultSet> rowHandler) throws BaseException {
+        return forEachRow(sql, rowHandler, NO_PARAMS);
+    }
+
+    /**
+     * Run sql select command with bind parameters, and call the row handler for every row of the result. The rows are fetched in chunks of the configured fetch
+     * size ({@link hu.icellmobilsoft.roaster.oracle.config.DBConfig#getFetchSize()}), nothing is collected, so big tables can be verified in
+     * constant memory.
+     *
+     * @param sql
+     *            sql command, with {@code ?} placeholders of the parameters
+     * @param rowHandler
+     *            handler of the current row of the result set, it must not move the cursor
+     * @param params
+     *            values of the {@code ?} placeholders in order, {@code java.util.Date} is bound as timestamp, enum as its name
+     * @return the number of the handled rows
+     * @throws BaseException
+     *             exception, or the exception of the row handler
+     */
+    public long forEachRow(String sql, FunctionalInterfaces.BaseExceptionConsumer<ResultSet> rowHandler, Object... params) throws BaseException {
+        if (StringUtils.isBlank(sql)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
+        }
+        if (Objects.isNull(rowHandler)) {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_ROW_HANDLER_IS_NULL);
+        }
+        try (Connection connection = jdbcConnection.getConnection();
+                PreparedStatement stmt = prepare(connection, sql, ResultSet.TYPE_FORWARD_ONLY, jdbcConnection.getFetchSize(), params);
+                ResultSet rs = stmt.executeQuery()) {
+            long count = 0;
+            while (rs.next()) {
+                rowHandler.accept(rs);
+                count++;
+            }
+            return count;
+        } catch (SQLException e) {
+            throw new TechnicalException(CoffeeFaultType.REPOSITORY_FAILED, ERROR_MSG_ERROR_OCCURRED_DURING_DB_CONNECTION, e);
+        }
+    }
+
+    /**
+     * Read only prepared statement with the parameters bound
+     *
+     * @param fetchSize
+     *            number of rows fetched in one round trip, {@code 0} for the driver default
+     */
+    private PreparedStatement prepare(Connection connection, String sql, int resultSetType, int fetchSize, Object[] params) throws SQLException {
+        PreparedStatement stmt = connection.prepareStatement(sql, resultSetType, ResultSet.CONCUR_READ_ONLY);
+        try {
+            if (fetchSize > 0) {
+                stmt.setFetchSize(fetchSize);
+            }
+            StatementParameters.bind(stmt, params);
+        } catch (SQLException | RuntimeException e) {
+            stmt.close();
+            throw e;
+        }
+        return stmt;
+    }
+
+    private <T> T getFirstValue(String sql, String columnName, Object[] params,
+            FunctionalInterfaces.BaseExceptionFunction2<ResultSet, String, T> function) throws BaseException {
         if (StringUtils.isBlank(sql)) {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_SQL_STRING_IS_BLANK);
         }
@@ -260,8 +649,8 @@ public class OracleJDBCSelectorService {
             throw new BaseException(CoffeeFaultType.INVALID_INPUT, ERROR_MSG_COLUMN_NAME_IS_BLANK);
         }
         try (Connection connection = jdbcConnection.getConnection();
-                Statement stmt = connection.createStatement();
-                ResultSet rs = stmt.executeQuery(sql)) {
+                PreparedStatement stmt = prepare(connection, sql, ResultSet.TYPE_FORWARD_ONLY, 0, params);
+                ResultSet rs = stmt.executeQuery()) {
             if (rs.next()) {
                 return function.apply(rs, columnName);
             } else {
@@ -0,0 +1,108 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import hu.icellmobilsoft.coffee.dto.exception.BaseException;
+import hu.icellmobilsoft.coffee.se.logging.Logger;
+import hu.icellmobilsoft.coffee.tool.common.FunctionalInterfaces;
+import hu.icellmobilsoft.roaster.api.TestException;
+
+/**
+ * Spliterator over the rows of an open result set, owning the result set, its statement and connection. The resources are released when the
+ * rows are exhausted, when the conversion fails, or when the stream is closed ({@link #close()}), whichever comes first.
+ *
+ * @param <T>
+ *            type of the converted rows
+ */
+class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+    private static final String ERROR_MSG_COULD_NOT_READ_ROW = "Could not read the next row!";
+
+    private final Connection connection;
+    private final Statement statement;
+    private final ResultSet resultSet;
+    private final FunctionalInterfaces.BaseExceptionFunction<ResultSet, T> converter;
+    private boolean closed;
+
+    ResultSetSpliterator(Connection connection, Statement statement, ResultSet resultSet,
+            FunctionalInterfaces.BaseExceptionFunction<ResultSet, T> converter) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.converter = converter;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+        try {
+            if (!resultSet.next()) {
+                close();
+                return false;
+            }
+            action.accept(converter.apply(resultSet));
+            return true;
+        } catch (SQLException | BaseException e) {
+            close();
+            throw new TestException(ERROR_MSG_COULD_NOT_READ_ROW, e);
+        }
+    }
+
+    /**
+     * Close the result set, the statement and give back the connection to the pool, the further calls do nothing
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        closeQuietly(resultSet, statement, connection);
+    }
+
+    /**
+     * Close the resources in the given order, logging the failures
+     *
+     * @param resources
+     *            the resources to close, {@code null} elements are skipped
+     */
+    static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception e) {
+                    Logger.getLogger(ResultSetSpliterator.class).warn("Could not close [{0}]: [{1}]", resource, e.getLocalizedMessage());
+                }
+            }
+        }
+    }
+}
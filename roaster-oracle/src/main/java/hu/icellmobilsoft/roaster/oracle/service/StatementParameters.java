@@ -0,0 +1,64 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Date;
+
+/**
+ * Binds the values of the {@code ?} placeholders of the statements run by the oracle services
+ */
+final class StatementParameters {
+
+    private StatementParameters() {
+    }
+
+    /**
+     * Binds the values in order, {@code null} with {@link PreparedStatement#setNull(int, int)}, {@link java.util.Date} as timestamp, enum as its
+     * name and any other value with {@link PreparedStatement#setObject(int, Object)}
+     *
+     * @param stmt
+     *            statement to bind to
+     * @param params
+     *            values of the placeholders, {@code null} for none
+     * @throws SQLException
+     *             if the driver rejects a value
+     */
+    static void bind(PreparedStatement stmt, Object[] params) throws SQLException {
+        if (params == null) {
+            return;
+        }
+        for (int i = 0; i < params.length; i++) {
+            Object param = params[i];
+            if (param == null) {
+                stmt.setNull(i + 1, Types.NULL);
+            } else if (param.getClass() == Date.class) {
+                stmt.setTimestamp(i + 1, new Timestamp(((Date) param).getTime()));
+            } else if (param instanceof Enum) {
+                stmt.setString(i + 1, ((Enum<?>) param).name());
+            } else {
+                stmt.setObject(i + 1, param);
+            }
+        }
+    }
+}
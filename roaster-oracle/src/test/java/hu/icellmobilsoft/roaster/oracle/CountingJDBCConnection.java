@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import hu.icellmobilsoft.roaster.oracle.connection.JDBCConnection;
+
+/**
+ * {@link JDBCConnection} counting the created pools, the pools hand out connection stubs without a DB. The stubs return default values, JDBC
+ * interfaces (e.g. statements) as further stubs and an empty update count array from {@code executeBatch}.
+ */
+public class CountingJDBCConnection extends JDBCConnection {
+
+    private final AtomicInteger createdDataSources = new AtomicInteger();
+
+    /**
+     * Creates an instance with {@link TestDBConfig}
+     */
+    public CountingJDBCConnection() {
+        withConfig(new TestDBConfig());
+    }
+
+    @Override
+    protected HikariDataSource createDataSource() {
+        createdDataSources.incrementAndGet();
+        // widens the window of parallel first calls
+        Parallel.pause();
+        return new StubDataSource();
+    }
+
+    /**
+     * Returns the number of {@link #createDataSource()} calls
+     *
+     * @return created pools
+     */
+    public int getCreatedDataSources() {
+        return createdDataSources.get();
+    }
+
+    private static class StubDataSource extends HikariDataSource {
+
+        @Override
+        public Connection getConnection() {
+            return stub(Connection.class);
+        }
+
+        private static <T> T stub(Class<T> type) {
+            return type.cast(Proxy.newProxyInstance(CountingJDBCConnection.class.getClassLoader(), new Class<?>[] { type },
+                    (proxy, method, args) -> defaultValue(method.getReturnType())));
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            } else if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            } else if (type == int[].class) {
+                return new int[0];
+            } else if (type.isInterface() && type.getPackageName().equals("java.sql")) {
+                return stub(type);
+            }
+            return null;
+        }
+    }
+}
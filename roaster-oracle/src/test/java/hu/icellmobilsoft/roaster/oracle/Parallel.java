@@ -0,0 +1,104 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a task on many threads released at the same time
+ */
+public final class Parallel {
+
+    /**
+     * Task run by one of the threads
+     *
+     * @param <T>
+     *            type of the result
+     */
+    @FunctionalInterface
+    public interface Task<T> {
+
+        /**
+         * Runs the task
+         *
+         * @param index
+         *            index of the thread, from 0
+         * @return result
+         * @throws Exception
+         *             on failure
+         */
+        T call(int index) throws Exception;
+    }
+
+    private Parallel() {
+    }
+
+    /**
+     * Runs the task on the given number of threads, started together behind a barrier
+     *
+     * @param threads
+     *            number of threads
+     * @param task
+     *            task to run
+     * @param <T>
+     *            type of the results
+     * @return results in the order of the thread indexes
+     * @throws Exception
+     *             the failure of the first failed task
+     */
+    public static <T> List<T> run(int threads, Task<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CyclicBarrier start = new CyclicBarrier(threads);
+            List<Future<T>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await(10, TimeUnit.SECONDS);
+                    return task.call(index);
+                }));
+            }
+            List<T> results = new ArrayList<>(threads);
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Short sleep inside a critical section, so that racing threads overlap
+     */
+    public static void pause() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
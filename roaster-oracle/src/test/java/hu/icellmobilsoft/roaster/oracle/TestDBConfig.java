@@ -0,0 +1,63 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle;
+
+import hu.icellmobilsoft.roaster.oracle.config.ManagedDBConfig;
+
+/**
+ * Fixed configuration without microprofile-config
+ */
+public class TestDBConfig extends ManagedDBConfig {
+
+    @Override
+    public String getUrl() {
+        return "jdbc:oracle:thin:@//localhost:1521/test";
+    }
+
+    @Override
+    public String getUser() {
+        return "test";
+    }
+
+    @Override
+    public String getPassword() {
+        return "test";
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+        return 2;
+    }
+
+    @Override
+    public int getFetchSize() {
+        return DEFAULT_FETCH_SIZE;
+    }
+
+    @Override
+    public int getStatementCacheSize() {
+        return DEFAULT_STATEMENT_CACHE_SIZE;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return 10;
+    }
+}
@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.util.List;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.coffee.dto.exception.TechnicalException;
+import hu.icellmobilsoft.roaster.oracle.CountingJDBCConnection;
+import hu.icellmobilsoft.roaster.oracle.Parallel;
+
+class JDBCConnectionTest {
+
+    private static final int THREADS = 16;
+
+    @RepeatedTest(20)
+    void shouldCreateOnePoolOnParallelFirstUse() throws Exception {
+        // given
+        CountingJDBCConnection testObj = new CountingJDBCConnection();
+
+        // when
+        List<Connection> connections = Parallel.run(THREADS, i -> testObj.getConnection());
+
+        // then
+        assertEquals(1, testObj.getCreatedDataSources());
+        connections.forEach(connection -> assertNotNull(connection));
+        assertFalse(testObj.isClosed());
+    }
+
+    @Test
+    void shouldBeShutdownOnlyAfterClose() throws Exception {
+        // given
+        CountingJDBCConnection testObj = new CountingJDBCConnection();
+
+        // then
+        assertTrue(testObj.isClosed());
+        assertFalse(testObj.isShutdown());
+
+        // when
+        assertNotNull(testObj.getConnection());
+
+        // then
+        assertFalse(testObj.isClosed());
+        assertFalse(testObj.isShutdown());
+
+        // when
+        testObj.close();
+
+        // then
+        assertTrue(testObj.isClosed());
+        assertTrue(testObj.isShutdown());
+        assertEquals(1, testObj.getCreatedDataSources());
+    }
+
+    @Test
+    void shouldFailWithoutConfig() {
+        // given
+        JDBCConnection testObj = new JDBCConnection();
+
+        // then
+        assertThrows(TechnicalException.class, testObj::getConnection);
+    }
+}
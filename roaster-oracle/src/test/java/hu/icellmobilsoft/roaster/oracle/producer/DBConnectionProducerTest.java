@@ -0,0 +1,112 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.roaster.oracle.CountingJDBCConnection;
+import hu.icellmobilsoft.roaster.oracle.Parallel;
+import hu.icellmobilsoft.roaster.oracle.connection.JDBCConnection;
+
+class DBConnectionProducerTest {
+
+    private static final int THREADS = 32;
+    private static final String[] CONFIG_KEYS = { "first", "second", "third", "fourth" };
+
+    @RepeatedTest(20)
+    void shouldCreateOneConnectionPerConfigKeyInParallel() throws Exception {
+        // given
+        CountingProducer testObj = new CountingProducer();
+
+        // when
+        List<JDBCConnection> connections = Parallel.run(THREADS, i -> {
+            JDBCConnection connection = testObj.getInstance(CONFIG_KEYS[i % CONFIG_KEYS.length]);
+            connection.getConnection();
+            return connection;
+        });
+
+        // then
+        for (int i = 0; i < THREADS; i++) {
+            String configKey = CONFIG_KEYS[i % CONFIG_KEYS.length];
+            assertSame(testObj.getInstance(configKey), connections.get(i));
+            assertEquals(1, ((CountingJDBCConnection) connections.get(i)).getCreatedDataSources());
+        }
+        for (String configKey : CONFIG_KEYS) {
+            assertEquals(1, testObj.getCreatedConnections(configKey));
+        }
+        testObj.clear();
+    }
+
+    @Test
+    void shouldKeepConnectionNotUsedYet() {
+        // given
+        CountingProducer testObj = new CountingProducer();
+
+        // when
+        JDBCConnection first = testObj.getInstance(CONFIG_KEYS[0]);
+        JDBCConnection second = testObj.getInstance(CONFIG_KEYS[0]);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, testObj.getCreatedConnections(CONFIG_KEYS[0]));
+    }
+
+    @Test
+    void shouldReplaceClosedConnection() throws Exception {
+        // given
+        CountingProducer testObj = new CountingProducer();
+        JDBCConnection first = testObj.getInstance(CONFIG_KEYS[0]);
+        first.getConnection();
+
+        // when
+        first.close();
+        JDBCConnection second = testObj.getInstance(CONFIG_KEYS[0]);
+
+        // then
+        assertNotSame(first, second);
+        assertEquals(2, testObj.getCreatedConnections(CONFIG_KEYS[0]));
+    }
+
+    private static class CountingProducer extends DBConnectionProducer {
+
+        private final Map<String, AtomicInteger> createdConnections = new ConcurrentHashMap<>();
+
+        @Override
+        protected JDBCConnection createConnection(String configKey) {
+            createdConnections.computeIfAbsent(configKey, k -> new AtomicInteger()).incrementAndGet();
+            Parallel.pause();
+            return new CountingJDBCConnection();
+        }
+
+        int getCreatedConnections(String configKey) {
+            return createdConnections.getOrDefault(configKey, new AtomicInteger()).get();
+        }
+    }
+}
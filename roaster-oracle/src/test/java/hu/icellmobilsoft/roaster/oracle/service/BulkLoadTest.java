@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BulkLoadTest {
+
+    @Test
+    void shouldCreateInsert() {
+        // given
+        BulkLoad<Object[]> load = BulkLoad.into("EXAMPLE", "X__ID", "NAME");
+
+        // then
+        assertFalse(load.isMerge());
+        assertEquals("INSERT INTO EXAMPLE (X__ID, NAME) VALUES (?, ?)", load.toSql());
+    }
+
+    @Test
+    void shouldCreateMerge() {
+        // given
+        BulkLoad<Object[]> load = BulkLoad.into("EXAMPLE", "X__ID", "NAME", "STATUS").mergeOn("X__ID");
+
+        // then
+        assertTrue(load.isMerge());
+        assertEquals("MERGE INTO EXAMPLE dst USING (SELECT ? X__ID, ? NAME, ? STATUS FROM DUAL) src ON (dst.X__ID = src.X__ID)"
+                + " WHEN MATCHED THEN UPDATE SET dst.NAME = src.NAME, dst.STATUS = src.STATUS"
+                + " WHEN NOT MATCHED THEN INSERT (X__ID, NAME, STATUS) VALUES (src.X__ID, src.NAME, src.STATUS)", load.toSql());
+    }
+
+    @Test
+    void shouldCreateMergeOnCompositeKey() {
+        // given
+        BulkLoad<Object[]> load = BulkLoad.into("EXAMPLE", "A", "B", "VALUE").mergeOn("A", "B");
+
+        // then
+        assertEquals("MERGE INTO EXAMPLE dst USING (SELECT ? A, ? B, ? VALUE FROM DUAL) src ON (dst.A = src.A AND dst.B = src.B)"
+                + " WHEN MATCHED THEN UPDATE SET dst.VALUE = src.VALUE"
+                + " WHEN NOT MATCHED THEN INSERT (A, B, VALUE) VALUES (src.A, src.B, src.VALUE)", load.toSql());
+    }
+
+    @Test
+    void shouldCreateMergeWithoutUpdateIfEveryColumnIsKey() {
+        // given
+        BulkLoad<Object[]> load = BulkLoad.into("EXAMPLE_LINK", "A__ID", "B__ID").mergeOn("A__ID", "B__ID");
+
+        // then
+        assertEquals("MERGE INTO EXAMPLE_LINK dst USING (SELECT ? A__ID, ? B__ID FROM DUAL) src ON (dst.A__ID = src.A__ID AND dst.B__ID = src.B__ID)"
+                + " WHEN NOT MATCHED THEN INSERT (A__ID, B__ID) VALUES (src.A__ID, src.B__ID)", load.toSql());
+    }
+}
@@ -0,0 +1,99 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import hu.icellmobilsoft.coffee.dto.exception.BaseException;
+import hu.icellmobilsoft.coffee.dto.exception.enums.CoffeeFaultType;
+import hu.icellmobilsoft.roaster.oracle.CountingJDBCConnection;
+
+class OracleJDBCBulkLoaderServiceTest {
+
+    private OracleJDBCBulkLoaderService testObj;
+
+    @BeforeEach
+    void setUp() {
+        testObj = new OracleJDBCBulkLoaderService();
+        testObj.setJdbcConnection(new CountingJDBCConnection());
+    }
+
+    @Test
+    void shouldLoadInBatches() throws Exception {
+        // given
+        BulkLoad<Object[]> load = BulkLoad.into("EXAMPLE", "X__ID").withRows(IntStream.range(0, 25).mapToObj(i -> new Object[] { i }));
+
+        // when
+        BulkLoadResult result = testObj.load(load);
+
+        // then
+        assertEquals(25, result.getRows());
+        assertEquals(3, result.getBatches());
+    }
+
+    @Test
+    void shouldReturnResultsInOrderOfLoads() throws Exception {
+        // given
+        BulkLoad<Object[]> first = BulkLoad.into("FIRST", "X__ID").withRows(IntStream.range(0, 100).mapToObj(i -> new Object[] { i }));
+        BulkLoad<Object[]> second = BulkLoad.into("SECOND", "X__ID").withRows(List.<Object[]> of(new Object[] { 1 }));
+
+        // when
+        List<BulkLoadResult> results = testObj.loadParallel(first, second);
+
+        // then
+        assertEquals("FIRST", results.get(0).getTable());
+        assertEquals(100, results.get(0).getRows());
+        assertEquals("SECOND", results.get(1).getTable());
+        assertEquals(1, results.get(1).getRows());
+    }
+
+    @Test
+    void shouldFailFastAndCancelRunningLoads() {
+        // given
+        BulkLoad<Object[]> endless = BulkLoad.into("ENDLESS", (Object[] row) -> {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return row;
+        }, "X__ID").withRows(Stream.generate(() -> new Object[] { 1 }));
+        BulkLoad<Object[]> failing = BulkLoad.into("FAILING", (Object[] row) -> {
+            throw new BaseException(CoffeeFaultType.INVALID_INPUT, "invalid fixture");
+        }, "X__ID").withRows(List.<Object[]> of(new Object[] { 1 }));
+
+        // when
+        BaseException exception = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThrows(BaseException.class, () -> testObj.loadParallel(endless, failing)));
+
+        // then
+        assertEquals("invalid fixture", exception.getMessage());
+    }
+}
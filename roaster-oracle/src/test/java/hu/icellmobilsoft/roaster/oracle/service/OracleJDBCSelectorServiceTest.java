@@ -0,0 +1,54 @@
+/*-
+ * #%L
+ * Coffee
+ * %%
+ * Copyright (C) 2020 - 2023 i-Cell Mobilsoft Zrt.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package hu.icellmobilsoft.roaster.oracle.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class OracleJDBCSelectorServiceTest {
+
+    @Test
+    void shouldWrapSelectIntoCount() {
+        // when
+        String sql = OracleJDBCSelectorService.countSql("SELECT * FROM EXAMPLE WHERE X__ID = ?");
+
+        // then
+        assertEquals("SELECT COUNT(*) FROM (SELECT * FROM EXAMPLE WHERE X__ID = ?\n)", sql);
+    }
+
+    @Test
+    void shouldDropTrailingSemicolon() {
+        // when
+        String sql = OracleJDBCSelectorService.countSql("SELECT * FROM EXAMPLE ; \n");
+
+        // then
+        assertEquals("SELECT COUNT(*) FROM (SELECT * FROM EXAMPLE\n)", sql);
+    }
+
+    @Test
+    void shouldCloseSubQueryAfterTrailingLineComment() {
+        // when
+        String sql = OracleJDBCSelectorService.countSql("SELECT * FROM EXAMPLE -- all rows");
+
+        // then
+        assertEquals("SELECT COUNT(*) FROM (SELECT * FROM EXAMPLE -- all rows\n)", sql);
+    }
+}
@@ -19,7 +19,6 @@
  */
 package hu.icellmobilsoft.roaster.weldunit.mock;
 
-import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.List;
 
@@ -91,8 +90,7 @@ public abstract class BaseMockProxy<S, D extends BaseMockProxy> {
      *             exception
      */
     protected final <E> E getEntityResult(final FunctionalInterfaces.BaseExceptionSupplier<E> supplier, final E entity) throws BaseException {
-        Condition.expected(entity != null,
-                MessageFormat.format("Service proxy [{0}] should have an provided result entity.", serviceClass.getSimpleName()));
+        Condition.expected(entity != null, "Service proxy [{0}] should have an provided result entity.", serviceClass.getSimpleName());
         return (supplier != null) ? supplier.get() : entity;
     }
 
@@ -134,8 +132,7 @@ public abstract class BaseMockProxy<S, D extends BaseMockProxy> {
      */
     protected final <E> List<E> getEntityListResult(final FunctionalInterfaces.BaseExceptionSupplier<List<E>> supplier, final E entity)
             throws BaseException {
-        Condition.expected(entity != null,
-                MessageFormat.format("Service proxy [{0}] should have an provided result entity.", serviceClass.getSimpleName()));
+        Condition.expected(entity != null, "Service proxy [{0}] should have an provided result entity.", serviceClass.getSimpleName());
         return (supplier != null) ? supplier.get() : Collections.singletonList(entity);
     }
 